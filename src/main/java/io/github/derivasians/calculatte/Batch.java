@@ -0,0 +1,304 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Runs calculations read one per line from standard input, and writes one result per line to
+ * standard output, so a single JVM can serve a whole shell pipeline:
+ *
+ * <pre>
+ * $ printf 'integrate 0 2 2 * x\nderivate 3 x^2\n' | java -jar calculatte.jar
+ * 4.0
+ * 6.0
+ * </pre>
+ *
+ * <p>Each line is the name of a <code>Calculatte</code> method followed by its arguments,
+ * separated by whitespace:
+ *
+ * <pre>
+ * integrate a b f                  integratePeriodic a b f
+ * derivate x f                     leftDerivative x f          rightDerivative x f
+ * limit x f                        leftLimit x f               rightLimit x f
+ * leftRiemannSum a b n f           rightRiemannSum a b n f
+ * midpointRule a b n f             trapezoidalSum a b n f
+ * revolve a b axis top bottom      crossSection a b type top bottom
+ * polarArea a b r
+ * </pre>
+ *
+ * <p>Numbers may be constant expressions such as <code>2*pi</code>, and functions are
+ * <code>Expression</code>s of x. The last function takes the rest of the line, but any other
+ * function must not contain whitespace. A cross-section type is its number or its name, such as
+ * <code>semicircle</code>. Blank lines and lines starting with <code>#</code> are skipped. A job
+ * that fails prints <code>error:</code> and the reason, and the jobs after it still run.
+ *
+ * <p>Jobs run in parallel, but results are written in the order of their lines. At most
+ * <code>window</code> jobs are held in memory at once, and the output is flushed whenever no other
+ * job is waiting to be written, so results stream back for interactive input too.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Expression
+ */
+public final class Batch {
+    /**
+     * Represents how many jobs are calculated at once.
+     */
+    public static int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Represents how many jobs may be read ahead of the oldest job whose result has not been
+     * written yet.
+     */
+    public static int window = 1024;
+
+    private Batch() {
+    }
+
+    /**
+     * Runs the jobs from standard input, writing their results to standard output.
+     *
+     * @param args Unused.
+     * @throws IOException If reading standard input or writing standard output fails.
+     */
+    public static void main(String[] args) throws IOException {
+        Writer out = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+        run(new InputStreamReader(System.in, StandardCharsets.UTF_8), out);
+        out.flush();
+    }
+
+    /**
+     * Runs the jobs read from <code>in</code>, one per line, writing their results to
+     * <code>out</code> in the same order.
+     *
+     * @param in The jobs.
+     * @param out Where to write the results.
+     * @throws IOException If reading <code>in</code> or writing <code>out</code> fails.
+     */
+    public static void run(Reader in, Writer out) throws IOException {
+        final int threads = Batch.threads;
+        final int window = Batch.window;
+        if (threads < 1 || window < 1) {
+            throw new IllegalArgumentException("There must be at least one thread and a window of at least one job.");
+        }
+
+        final Calculatte calculatte = new Calculatte();
+        final BufferedReader reader = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in);
+        final BufferedWriter writer = new BufferedWriter(out);
+        final BlockingQueue<Future<String>> pending = new ArrayBlockingQueue<>(window);
+        final Future<String> end = CompletableFuture.completedFuture(null);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "calculatte-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Lines are read on their own thread, which blocks once the window is full.
+        final FutureTask<Void> reading = new FutureTask<>(() -> {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String job = line.trim();
+                    if (!job.isEmpty() && !job.startsWith("#")) {
+                        pending.put(executor.submit(() -> execute(calculatte, job)));
+                    }
+                }
+            } finally {
+                pending.put(end);
+            }
+
+            return null;
+        });
+        Thread readerThread = new Thread(reading, "calculatte-batch-reader");
+        readerThread.setDaemon(true);
+        readerThread.start();
+
+        try {
+            Future<String> result;
+            while ((result = pending.take()) != end) {
+                write(writer, result);
+                if (pending.isEmpty()) {
+                    writer.flush();
+                }
+            }
+
+            writer.flush();
+            reading.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running the jobs.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+
+            throw new IOException(e.getCause());
+        } finally {
+            reading.cancel(true);
+            executor.shutdownNow();
+        }
+    }
+
+    private static void write(BufferedWriter writer, Future<String> result) throws IOException, InterruptedException {
+        String text;
+        try {
+            text = result.get();
+        } catch (ExecutionException e) {
+            text = "error: " + e.getCause().getMessage();
+        }
+
+        writer.write(text);
+        writer.newLine();
+    }
+
+    /**
+     * Runs a single job.
+     *
+     * @param c The calculator to use.
+     * @param job The job, as a line of input.
+     * @return The result, or <code>error:</code> and the reason the job failed.
+     */
+    static String execute(Calculatte c, String job) {
+        String[] fields = job.trim().split("\\s+", 2);
+        String arguments = fields.length > 1 ? fields[1] : "";
+        try {
+            double result = switch (fields[0]) {
+                case "integrate" -> {
+                    String[] a = arguments(arguments, 3);
+                    yield c.integrate(number(a[0]), number(a[1]), Expression.parse(a[2]));
+                }
+                case "integratePeriodic" -> {
+                    String[] a = arguments(arguments, 3);
+                    yield c.integratePeriodic(number(a[0]), number(a[1]), Expression.parse(a[2]));
+                }
+                case "derivate" -> {
+                    String[] a = arguments(arguments, 2);
+                    yield c.derivate(number(a[0]), Expression.parse(a[1]));
+                }
+                case "leftDerivative" -> {
+                    String[] a = arguments(arguments, 2);
+                    yield c.leftDerivative(number(a[0]), Expression.parse(a[1]));
+                }
+                case "rightDerivative" -> {
+                    String[] a = arguments(arguments, 2);
+                    yield c.rightDerivative(number(a[0]), Expression.parse(a[1]));
+                }
+                case "limit" -> {
+                    String[] a = arguments(arguments, 2);
+                    yield c.limit(number(a[0]), Expression.parse(a[1]));
+                }
+                case "leftLimit" -> {
+                    String[] a = arguments(arguments, 2);
+                    yield c.leftLimit(number(a[0]), Expression.parse(a[1]));
+                }
+                case "rightLimit" -> {
+                    String[] a = arguments(arguments, 2);
+                    yield c.rightLimit(number(a[0]), Expression.parse(a[1]));
+                }
+                case "leftRiemannSum" -> {
+                    String[] a = arguments(arguments, 4);
+                    yield c.leftRiemannSum(number(a[0]), number(a[1]), Expression.parse(a[3]), count(a[2]));
+                }
+                case "rightRiemannSum" -> {
+                    String[] a = arguments(arguments, 4);
+                    yield c.rightRiemannSum(number(a[0]), number(a[1]), Expression.parse(a[3]), count(a[2]));
+                }
+                case "midpointRule" -> {
+                    String[] a = arguments(arguments, 4);
+                    yield c.midpointRule(number(a[0]), number(a[1]), Expression.parse(a[3]), count(a[2]));
+                }
+                case "trapezoidalSum" -> {
+                    String[] a = arguments(arguments, 4);
+                    yield c.trapezoidalSum(number(a[0]), number(a[1]), Expression.parse(a[3]), count(a[2]));
+                }
+                case "revolve" -> {
+                    String[] a = arguments(arguments, 5);
+                    yield c.revolve(number(a[0]), number(a[1]), number(a[2]),
+                            Expression.parse(a[3]), Expression.parse(a[4]));
+                }
+                case "crossSection" -> {
+                    String[] a = arguments(arguments, 5);
+                    yield c.crossSection(number(a[0]), number(a[1]),
+                            Expression.parse(a[3]), Expression.parse(a[4]), crossSectionType(a[2]));
+                }
+                case "polarArea" -> {
+                    String[] a = arguments(arguments, 3);
+                    yield c.polarArea(number(a[0]), number(a[1]), Expression.parse(a[2]));
+                }
+                default -> throw new IllegalArgumentException(
+                        String.format("<%s> is not a valid operation.", fields[0]));
+            };
+
+            return Double.toString(result);
+        } catch (RuntimeException e) {
+            return "error: " + e.getMessage();
+        }
+    }
+
+    private static String[] arguments(String arguments, int count) {
+        String[] split = arguments.isEmpty() ? new String[0] : arguments.split("\\s+", count);
+        if (split.length != count) {
+            throw new IllegalArgumentException(
+                    String.format("Expected %d arguments but found %d.", count, split.length));
+        }
+
+        return split;
+    }
+
+    private static double number(String text) {
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return Expression.evaluate(text);
+        }
+    }
+
+    private static int count(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("<%s> is not a whole number.", text));
+        }
+    }
+
+    private static int crossSectionType(String text) {
+        return switch (text) {
+            case "square" -> Calculatte.SQUARE;
+            case "equilateralTriangle" -> Calculatte.EQUILATERAL_TRIANGLE;
+            case "isoscelesTriangle" -> Calculatte.ISOSCELES_TRIANGLE;
+            case "rightTriangle" -> Calculatte.RIGHT_TRIANGLE;
+            case "semicircle" -> Calculatte.SEMICIRCLE;
+            default -> count(text);
+        };
+    }
+}
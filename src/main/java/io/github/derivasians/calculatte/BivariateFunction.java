@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * The BivariateFunction interface for functions of two variables, such as the
+ * integrand of a double integral or a surface bounding a triple integral.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Function
+ */
+public interface BivariateFunction {
+    /**
+     * Calculates the value of this function at the point (x, y).
+     *
+     * @param x The x-value of the point.
+     * @param y The y-value of the point.
+     * @return The value of the function at (x, y).
+     */
+    double f(double x, double y);
+}
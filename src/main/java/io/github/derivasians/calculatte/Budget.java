@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import java.time.Duration;
+
+/**
+ * Limits how much work an estimate may take, by the number of function
+ * evaluations, by wall-clock time, or both. Once either runs out, the best
+ * estimate found so far is returned.
+ *
+ * <p>Note: A budget's time limit starts counting when a calculation starts,
+ * not when the budget is created, so one budget can be reused.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Calculatte#estimateIntegral(double, double, Function, Budget)
+ */
+public final class Budget {
+    /**
+     * A budget that never runs out. Estimates stop only once they are
+     * within their tolerance.
+     */
+    public static final Budget UNLIMITED = new Budget(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final long maxEvaluations;
+    private final long timeoutNanos;
+
+    private Budget(long maxEvaluations, long timeoutNanos) {
+        if (maxEvaluations < 1) {
+            throw new IllegalArgumentException("There must be at least one evaluation.");
+        }
+
+        if (timeoutNanos < 0) {
+            throw new IllegalArgumentException("The time limit must not be negative.");
+        }
+
+        this.maxEvaluations = maxEvaluations;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * Creates a budget limited by the number of function evaluations.
+     *
+     * @param maxEvaluations The largest number of function evaluations allowed.
+     * @return The budget.
+     */
+    public static Budget evaluations(long maxEvaluations) {
+        return new Budget(maxEvaluations, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a budget limited by wall-clock time.
+     *
+     * @param timeout The longest a calculation may take.
+     * @return The budget.
+     */
+    public static Budget time(Duration timeout) {
+        return new Budget(Long.MAX_VALUE, toNanos(timeout));
+    }
+
+    /**
+     * Creates a budget limited by both the number of function evaluations
+     * and wall-clock time, whichever runs out first.
+     *
+     * @param maxEvaluations The largest number of function evaluations allowed.
+     * @param timeout The longest a calculation may take.
+     * @return The budget.
+     */
+    public static Budget of(long maxEvaluations, Duration timeout) {
+        return new Budget(maxEvaluations, toNanos(timeout));
+    }
+
+    private static long toNanos(Duration timeout) {
+        try {
+            return timeout.toNanos();
+        } catch (ArithmeticException e) {
+            return timeout.isNegative() ? -1 : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * @return The largest number of function evaluations allowed.
+     */
+    public long getMaxEvaluations() {
+        return maxEvaluations;
+    }
+
+    /**
+     * @return The longest a calculation may take, in nanoseconds, or
+     * <code>Long.MAX_VALUE</code> if there is no time limit.
+     */
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    /**
+     * Finds when a calculation started at <code>startNanos</code> must stop.
+     *
+     * @param startNanos The <code>System.nanoTime()</code> the calculation started at.
+     * @return The <code>System.nanoTime()</code> of the deadline, or <code>Long.MAX_VALUE</code>
+     * if there is no time limit.
+     */
+    long deadline(long startNanos) {
+        if (timeoutNanos == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+
+        long deadline = startNanos + timeoutNanos;
+        return deadline < startNanos ? Long.MAX_VALUE : deadline;
+    }
+
+    /**
+     * Checks whether the deadline returned by <code>deadline()</code> has passed.
+     *
+     * @param deadline The deadline to check.
+     * @return Whether the deadline has passed.
+     */
+    static boolean expired(long deadline) {
+        return deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Budget[maxEvaluations=%s, timeoutNanos=%s]", maxEvaluations, timeoutNanos);
+    }
+}
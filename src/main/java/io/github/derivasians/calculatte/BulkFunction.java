@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * The BulkFunction interface for functions that find the y-values of many
+ * x-values at once. Integrating a bulk function lets Calculatte evaluate and
+ * sum whole blocks of points at a time, using SIMD instructions where the JVM
+ * supports them.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Calculatte#integrate(double, double, BulkFunction)
+ */
+public interface BulkFunction {
+    /**
+     * Calculates the y-values for the first <code>length</code> x-values.
+     *
+     * @param x The x-values to find the y-values for.
+     * @param y The array to write the y-values into.
+     * @param length The number of values to calculate.
+     */
+    void f(double[] x, double[] y, int length);
+
+    /**
+     * Wraps a function so that it can be evaluated in bulk.
+     *
+     * @param function The function to wrap.
+     * @return A bulk function calculating the same y-values as <code>function</code>.
+     */
+    static BulkFunction of(Function function) {
+        return (x, y, length) -> {
+            for (int i = 0; i < length; i++) {
+                y[i] = function.f(x[i]);
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Thrown when a calculation stops because its <code>CancellationToken</code>
+ * was cancelled. It records how much of the calculation was done.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.CancellationToken
+ */
+public final class CalculationCancelledException extends CancellationException {
+    private static final long serialVersionUID = 1L;
+
+    private final long completed;
+    private final long total;
+
+    /**
+     * Creates the exception for a calculation cancelled partway through.
+     *
+     * @param completed How many function evaluations were made before it stopped.
+     * @param total How many function evaluations the calculation would have made in all.
+     */
+    public CalculationCancelledException(long completed, long total) {
+        super(String.format("The calculation was cancelled after %d of %d function evaluations.",
+                completed, total));
+        this.completed = completed;
+        this.total = total;
+    }
+
+    /**
+     * Finds how many function evaluations were made before the calculation stopped.
+     *
+     * @return The number of function evaluations made.
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Finds how many function evaluations the calculation would have made in all.
+     *
+     * @return The total number of function evaluations.
+     */
+    public long getTotal() {
+        return total;
+    }
+}
@@ -18,6 +18,9 @@ package io.github.derivasians.calculatte;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleSupplier;
 
 /**
  * Contains all methods and properties to perform basic calculus operations.
@@ -52,7 +55,9 @@ public final class Calculatte {
     limitRoundingDecimalPlaces = 3,
     leftLimitRoundingDecimalPlaces = 3,
     rightLimitRoundingDecimalPlaces = 3,
-    polarAreaRoundingDecimalPlaces = 3;
+    polarAreaRoundingDecimalPlaces = 3,
+    doubleIntegrationRoundingDecimalPlaces = 3,
+    tripleIntegrationRoundingDecimalPlaces = 3;
 
     /**
      * <p>All values greater than <code>positiveInfinity</code>
@@ -87,6 +92,58 @@ public final class Calculatte {
      */
     public static int n = 64000;
 
+    /**
+     * Represents the largest error allowed in each single integral of a double or triple integral,
+     * relative to the integral for integrals larger than 1. The smaller the more accurate.
+     *
+     * @see io.github.derivasians.calculatte.Calculatte#doubleIntegrate(double, double, Function, Function, BivariateFunction)
+     * @see io.github.derivasians.calculatte.Calculatte#tripleIntegrate(double, double, Function, Function, BivariateFunction, BivariateFunction, TrivariateFunction)
+     */
+    public static double adaptiveTolerance = 0.000000001;
+
+    /**
+     * Represents how many times an interval may be halved while integrating adaptively before its
+     * current estimate is accepted.
+     *
+     * @see io.github.derivasians.calculatte.Calculatte#adaptiveTolerance
+     */
+    public static int adaptiveMaxDepth = 20;
+
+    /**
+     * Represents how many function evaluations a double or triple integral may use in all. Once
+     * they are used up, no interval is halved again and the current estimates are accepted.
+     *
+     * @see io.github.derivasians.calculatte.Calculatte#adaptiveTolerance
+     */
+    public static long adaptiveMaxEvaluations = 10000000;
+
+    /**
+     * Represents the largest estimated error, relative to the value for values larger than 1, at
+     * which an estimate stops refining. The smaller the more accurate.
+     *
+     * @see io.github.derivasians.calculatte.Calculatte#estimateIntegral(double, double, Function, Budget)
+     * @see io.github.derivasians.calculatte.Calculatte#estimateDerivative(double, Function, Budget)
+     */
+    public static double estimateTolerance = 0.000000001;
+
+    /**
+     * Represents the largest change, relative to the value for values larger than 1, between two
+     * successive trapezoidal sums of a periodic integral before it is accepted. The smaller the
+     * more accurate.
+     *
+     * @see io.github.derivasians.calculatte.Calculatte#integratePeriodic(double, double, Function)
+     */
+    public static double periodicTolerance = 0.000000000001;
+
+    /**
+     * Represents how many points a periodic integral starts with. Integrands with frequencies
+     * that are multiples of four times this many points over the interval can be mistaken for
+     * having converged.
+     *
+     * @see io.github.derivasians.calculatte.Calculatte#integratePeriodic(double, double, Function)
+     */
+    public static int periodicMinimumPoints = 16;
+
     /**
      * Represents accuracy value for derivation calculations. The smaller the more accurate.
      *
@@ -122,11 +179,55 @@ public final class Calculatte {
     /**
      * Represents how far the x-value should be offset left and right to find the left and right limits.
      *
-     * @see io.github.derivasians.calculatte.Calculatte#leftLimit(double, Function)
-     * @see io.github.derivasians.calculatte.Calculatte#rightLimit(double, Function)
+     * @deprecated Limits are found by approaching x through a sequence of points, starting
+     * <code>limitInitialStep</code> away.
+     * @see io.github.derivasians.calculatte.Calculatte#limitInitialStep
      */
+    @Deprecated
     public static double limitOffset = 0.000000001;
 
+    /**
+     * Represents how many of the points on each side a limit is approached through are
+     * extrapolated at once when estimated. The larger the more accurate, at the cost of more
+     * evaluations.
+     *
+     * @see io.github.derivasians.calculatte.Calculatte#estimateLimit(double, Function)
+     */
+    public static int limitSequenceLength = 12;
+
+    /**
+     * Represents how far from x the first point approaching a limit is when estimated. Each point
+     * after the first is half as far from x as the last. At infinity, the first point is at 1 /
+     * <code>limitInitialStep</code>, and each point after is twice as far out.
+     *
+     * @see io.github.derivasians.calculatte.Calculatte#estimateLimit(double, Function)
+     */
+    public static double limitInitialStep = 0.125;
+
+    /**
+     * Represents how many more points, after the first <code>limitSequenceLength</code>, a limit
+     * may be approached through when estimated, for functions that only settle down very close
+     * to x. The last <code>limitSequenceLength</code> points are extrapolated after each one.
+     *
+     * @see io.github.derivasians.calculatte.Calculatte#estimateLimit(double, Function)
+     */
+    public static int limitExtraPoints = 8;
+
+    /**
+     * The cache the results of <code>integrate()</code>, <code>revolve()</code>,
+     * <code>crossSection()</code> and <code>polarArea()</code> are kept in, or <code>null</code>
+     * to never cache results. Results are never cached by default.
+     *
+     * @see io.github.derivasians.calculatte.ResultCache
+     */
+    public static ResultCache resultCache = null;
+
+    /**
+     * Represents how many points an integral evaluates between checks of its cancellation token
+     * and progress reports. Must be even, so each block keeps to the odd or even points.
+     */
+    private static final int MONITOR_BLOCK_SIZE = 1024;
+
     /**
      * Represents the square cross-sections type.
      *
@@ -166,14 +267,14 @@ public final class Calculatte {
      * Rounds doubles according to the IEEE 754 standard of rounding half to even.
      *
      * <p>Note: If <code>decimalPlaces</code> is set to <code>-1</code>, <code>x</code>
-     * will not be rounded.
+     * will not be rounded. <code>Double.NaN</code> is returned as it is.
      *
      * @param x The value to be rounded.
      * @param decimalPlaces The number of decimal places to round to.
      * @return The rounded value.
      */
     public double round(double x, int decimalPlaces) {
-        if (decimalPlaces < 0) {
+        if (decimalPlaces < 0 || Double.isNaN(x)) {
             return x;
         }
 
@@ -199,22 +300,32 @@ public final class Calculatte {
      * @return The area under the curve from a to b.
      */
     public double integrate(double a, double b, Function function) {
-        double h = (b - a) / (n - 1); // Step size.
-
-        // 1/3 terms.
-        double sum = 1.0 / 3.0 * (function.f(a) + function.f(b));
-
-        // 4/3 terms.
-        for (int i = 1; i < n - 1; i += 2) {
-            sum += 4.0 / 3.0 * function.f(a + h * i);
-        }
+        return integrate(a, b, function, null, null);
+    }
 
-        // 2/3 terms.
-        for (int i = 2; i < n - 1; i += 2) {
-            sum += 2.0 / 3.0 * function.f(a + h * i);
+    /**
+     * Integrates the function from a to b using Simpson's rule, checking <code>token</code> and
+     * reporting to <code>listener</code> after every block of function evaluations. The result is
+     * the same as without them.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The function to integrate.
+     * @param token The token to stop the calculation with, or <code>null</code>.
+     * @param listener The listener to report progress to, or <code>null</code>.
+     * @return The area under the curve from a to b.
+     * @throws CalculationCancelledException If <code>token</code> is cancelled before the
+     * calculation finishes.
+     */
+    public double integrate(double a, double b, Function function, CancellationToken token,
+                            ProgressListener listener) {
+        if (function instanceof Spline spline) {
+            return round(spline.integrate(a, b), integrationRoundingDecimalPlaces);
         }
 
-        return round(sum * h, integrationRoundingDecimalPlaces);
+        return cached(() -> round(integrateRaw(a, b, function, token, listener, 0, n),
+                        integrationRoundingDecimalPlaces),
+                "integrate", a, b, function, n, integrationRoundingDecimalPlaces);
     }
 
     /**
@@ -226,24 +337,216 @@ public final class Calculatte {
      * @return The area under the curve from a to b, not rounded.
      */
     private double integrateRaw(double a, double b, Function function) {
+        return integrateRaw(a, b, function, null, null, 0, n);
+    }
+
+    /**
+     * Integrates the function from a to b using Simpson's rule, without rounding, checking
+     * <code>token</code> and reporting to <code>listener</code> before every
+     * <code>MONITOR_BLOCK_SIZE</code> points. The points are summed in the same order whether or
+     * not they are given.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The function to integrate.
+     * @param token The token to stop the calculation with, or <code>null</code>.
+     * @param listener The listener to report progress to, or <code>null</code>.
+     * @param completed How many evaluations of the whole calculation were made before this integral.
+     * @param total How many evaluations the whole calculation makes in all.
+     * @return The area under the curve from a to b, not rounded.
+     */
+    private double integrateRaw(double a, double b, Function function, CancellationToken token,
+                                ProgressListener listener, long completed, long total) {
         double h = (b - a) / (n - 1); // Step size.
 
         // 1/3 terms.
+        checkpoint(token, listener, completed, total);
         double sum = 1.0 / 3.0 * (function.f(a) + function.f(b));
+        completed += 2;
 
         // 4/3 terms.
-        for (int i = 1; i < n - 1; i += 2) {
-            sum += 4.0 / 3.0 * function.f(a + h * i);
+        for (int start = 1; start < n - 1; start += MONITOR_BLOCK_SIZE) {
+            checkpoint(token, listener, completed, total);
+            int end = Math.min(start + MONITOR_BLOCK_SIZE, n - 1);
+            for (int i = start; i < end; i += 2) {
+                sum += 4.0 / 3.0 * function.f(a + h * i);
+            }
+
+            completed += (end - start + 1) / 2;
         }
 
         // 2/3 terms.
-        for (int i = 2; i < n - 1; i += 2) {
-            sum += 2.0 / 3.0 * function.f(a + h * i);
+        for (int start = 2; start < n - 1; start += MONITOR_BLOCK_SIZE) {
+            checkpoint(token, listener, completed, total);
+            int end = Math.min(start + MONITOR_BLOCK_SIZE, n - 1);
+            for (int i = start; i < end; i += 2) {
+                sum += 2.0 / 3.0 * function.f(a + h * i);
+            }
+
+            completed += (end - start + 1) / 2;
+        }
+
+        if (listener != null) {
+            listener.progress(completed, total);
         }
 
         return sum * h;
     }
 
+    /**
+     * Reports progress to <code>listener</code>, then stops the calculation if <code>token</code>
+     * has been cancelled.
+     *
+     * @throws CalculationCancelledException If <code>token</code> has been cancelled.
+     */
+    private static void checkpoint(CancellationToken token, ProgressListener listener, long completed,
+                                   long total) {
+        if (listener != null) {
+            listener.progress(completed, total);
+        }
+
+        if (token != null && token.isCancelled()) {
+            throw new CalculationCancelledException(completed, total);
+        }
+    }
+
+    /**
+     * Integrates the bulk function from a to b using Simpson's rule. Points are evaluated and
+     * summed a block at a time, using SIMD instructions where the JVM supports them.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The bulk function to integrate.
+     * @return The area under the curve from a to b.
+     * @see io.github.derivasians.calculatte.BulkFunction
+     */
+    public double integrate(double a, double b, BulkFunction function) {
+        return round(IntegrationKernel.INSTANCE.simpson(a, b, n, function), integrationRoundingDecimalPlaces);
+    }
+
+    /**
+     * Integrates the function from a to b using adaptive Simpson's rule, without rounding. The
+     * interval is split into panels, and each panel is halved until its estimate is within
+     * <code>adaptiveTolerance</code>, relative to the integral for integrals larger than 1.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The function to integrate.
+     * @param remaining The evaluations left for the whole calculation, shared by every nested
+     *                  integral of it and counted down as they are used.
+     * @return The area under the curve from a to b, not rounded.
+     */
+    private double integrateAdaptive(double a, double b, Function function, long[] remaining) {
+        final int panels = 8;
+        double h = (b - a) / panels; // Panel width.
+        double[] fa = new double[panels];
+        double[] fm = new double[panels];
+        double[] fb = new double[panels];
+        double[] whole = new double[panels];
+        double magnitude = 0;
+
+        double previous = function.f(a);
+        for (int i = 0; i < panels; i++) {
+            double left = a + h * i;
+            double right = i == panels - 1 ? b : left + h;
+            fa[i] = previous;
+            fm[i] = function.f((left + right) / 2);
+            fb[i] = function.f(right);
+            whole[i] = (right - left) / 6 * (fa[i] + 4 * fm[i] + fb[i]);
+            magnitude += Math.abs(whole[i]);
+            previous = fb[i];
+        }
+        remaining[0] -= 2 * panels + 1;
+
+        double tolerance = adaptiveTolerance * Math.max(1, magnitude) / panels;
+        double sum = 0;
+        for (int i = 0; i < panels; i++) {
+            double left = a + h * i;
+            double right = i == panels - 1 ? b : left + h;
+            sum += integrateAdaptive(function, left, right, fa[i], fm[i], fb[i], whole[i], tolerance,
+                    adaptiveMaxDepth, remaining);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Recursively halves [a, b] until Simpson's rule on both halves agrees with Simpson's rule
+     * on the whole interval to within <code>tolerance</code>, or the evaluations run out.
+     */
+    private double integrateAdaptive(Function function, double a, double b, double fa, double fm,
+                                     double fb, double whole, double tolerance, int depth, long[] remaining) {
+        double m = (a + b) / 2;
+        double lm = (a + m) / 2;
+        double rm = (m + b) / 2;
+        double flm = function.f(lm);
+        double frm = function.f(rm);
+        remaining[0] -= 2;
+        double left = (m - a) / 6 * (fa + 4 * flm + fm);
+        double right = (b - m) / 6 * (fm + 4 * frm + fb);
+        double delta = left + right - whole;
+
+        if (depth <= 0 || remaining[0] <= 0 || Math.abs(delta) <= 15 * tolerance) {
+            return left + right + delta / 15; // Richardson extrapolation.
+        }
+
+        return integrateAdaptive(function, a, m, fa, flm, fm, left, tolerance / 2, depth - 1, remaining)
+                + integrateAdaptive(function, m, b, fm, frm, fb, right, tolerance / 2, depth - 1, remaining);
+    }
+
+    /**
+     * Integrates the function over the region bounded by <code>functionTop</code>,
+     * <code>functionBottom</code>, x = <code>a</code>, and x = <code>b</code>, using nested
+     * adaptive Simpson's rule.
+     *
+     * @param a The lower limit of integration of x.
+     * @param b The upper limit of integration of x.
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     * @param integrand The function of x and y to integrate.
+     * @return The volume under the integrand over the bounded region.
+     * @see io.github.derivasians.calculatte.QuasiMonteCarlo
+     */
+    public double doubleIntegrate(double a, double b, Function functionTop, Function functionBottom,
+                                  BivariateFunction integrand) {
+        long[] remaining = {adaptiveMaxEvaluations};
+
+        // The inner integral over y, as a function of x.
+        Function inner = x -> integrateAdaptive(functionBottom.f(x), functionTop.f(x),
+                y -> integrand.f(x, y), remaining);
+
+        return round(integrateAdaptive(a, b, inner, remaining), doubleIntegrationRoundingDecimalPlaces);
+    }
+
+    /**
+     * Integrates the function over the volume bounded by <code>surfaceTop</code> and
+     * <code>surfaceBottom</code>, above the region bounded by <code>functionTop</code>,
+     * <code>functionBottom</code>, x = <code>a</code>, and x = <code>b</code>, using nested
+     * adaptive Simpson's rule.
+     *
+     * @param a The lower limit of integration of x.
+     * @param b The upper limit of integration of x.
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     * @param surfaceTop The top surface defining the bounded volume.
+     * @param surfaceBottom The bottom surface defining the bounded volume.
+     * @param integrand The function of x, y, and z to integrate.
+     * @return The integral of the integrand over the bounded volume.
+     * @see io.github.derivasians.calculatte.QuasiMonteCarlo
+     */
+    public double tripleIntegrate(double a, double b, Function functionTop, Function functionBottom,
+                                  BivariateFunction surfaceTop, BivariateFunction surfaceBottom,
+                                  TrivariateFunction integrand) {
+        long[] remaining = {adaptiveMaxEvaluations};
+
+        // The inner integrals over z and then y, as a function of x.
+        Function inner = x -> integrateAdaptive(functionBottom.f(x), functionTop.f(x),
+                y -> integrateAdaptive(surfaceBottom.f(x, y), surfaceTop.f(x, y),
+                        z -> integrand.f(x, y, z), remaining), remaining);
+
+        return round(integrateAdaptive(a, b, inner, remaining), tripleIntegrationRoundingDecimalPlaces);
+    }
+
     /**
      * Finds the derivate of the function at point, x.
      *
@@ -253,6 +556,10 @@ public final class Calculatte {
      * if the derivative DNE.
      */
     public double derivate(double x, Function function) {
+        if (function instanceof Spline spline) {
+            return round(spline.derivative(x), derivationRoundingDecimalPlaces);
+        }
+
         if ((leftDerivative(x, function) > rightDerivative(x, function) + derivativeTolerance) ||
                 (leftDerivative(x, function) < rightDerivative(x, function) - derivativeTolerance)) {
             return Double.NaN;
@@ -323,6 +630,27 @@ public final class Calculatte {
         return round(deltaX * sum, leftRiemannSumRoundingDecimalPlaces);
     }
 
+    /**
+     * Finds the approximate area under the curve of a bulk function using the left Riemann sum rule
+     * with <code>n</code> rectangles. Points are evaluated and summed a block at a time, using
+     * SIMD instructions where the JVM supports them.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The bulk function being used to calculate the left Riemann sum.
+     * @param n The number of rectangles being used to estimate the area under the curve.
+     * @return The approximate area under the curve by the left Riemann sum rule.
+     * @see io.github.derivasians.calculatte.BulkFunction
+     */
+    public double leftRiemannSum(double a, double b, BulkFunction function, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("There must be at least one rectangle.");
+        }
+
+        double area = IntegrationKernel.INSTANCE.riemann(a, b, n, 0, function);
+        return round(area, leftRiemannSumRoundingDecimalPlaces);
+    }
+
     /**
      * Finds the approximate area under the curve using the right Riemann sum rule with
      * <code>n</code> rectangles.
@@ -347,6 +675,27 @@ public final class Calculatte {
         return round(deltaX * sum, rightRiemannSumRoundingDecimalPlaces);
     }
 
+    /**
+     * Finds the approximate area under the curve of a bulk function using the right Riemann sum rule
+     * with <code>n</code> rectangles. Points are evaluated and summed a block at a time, using
+     * SIMD instructions where the JVM supports them.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The bulk function being used to calculate the right Riemann sum.
+     * @param n The number of rectangles being used to estimate the area under the curve.
+     * @return The approximate area under the curve by the right Riemann sum rule.
+     * @see io.github.derivasians.calculatte.BulkFunction
+     */
+    public double rightRiemannSum(double a, double b, BulkFunction function, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("There must be at least one rectangle.");
+        }
+
+        double area = IntegrationKernel.INSTANCE.riemann(a, b, n, 1, function);
+        return round(area, rightRiemannSumRoundingDecimalPlaces);
+    }
+
     /**
      * Finds the approximate area under the curve using the midpoint rule with
      * <code>n</code> rectangles.
@@ -371,6 +720,27 @@ public final class Calculatte {
         return round(deltaX * sum, midpointRuleRoundingDecimalPlaces);
     }
 
+    /**
+     * Finds the approximate area under the curve of a bulk function using the midpoint rule
+     * with <code>n</code> rectangles. Points are evaluated and summed a block at a time, using
+     * SIMD instructions where the JVM supports them.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The bulk function being used to calculate the midpoint rule.
+     * @param n The number of rectangles being used to estimate the area under the curve.
+     * @return The approximate area under the curve by the midpoint rule.
+     * @see io.github.derivasians.calculatte.BulkFunction
+     */
+    public double midpointRule(double a, double b, BulkFunction function, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("There must be at least one rectangle.");
+        }
+
+        double area = IntegrationKernel.INSTANCE.riemann(a, b, n, 0.5, function);
+        return round(area, midpointRuleRoundingDecimalPlaces);
+    }
+
     /**
      * Finds the approximate area under the curve using the trapezoidal sum rule with
      * <code>n</code> trapezoids.
@@ -399,6 +769,26 @@ public final class Calculatte {
         return round(((b - a) / (2 * n)) * sum, trapezoidalSumRoundingDecimalPlaces);
     }
 
+    /**
+     * Finds the approximate area under the curve of a bulk function using the trapezoidal sum
+     * rule with <code>n</code> trapezoids. Points are evaluated and summed a block at a time,
+     * using SIMD instructions where the JVM supports them.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The bulk function being used to calculate the trapezoidal sum.
+     * @param n The number of trapezoids being used to estimate the area under the curve.
+     * @return The approximate area under the curve by the trapezoidal sum rule.
+     * @see io.github.derivasians.calculatte.BulkFunction
+     */
+    public double trapezoidalSum(double a, double b, BulkFunction function, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("There must be at least one trapezoid.");
+        }
+
+        return round(IntegrationKernel.INSTANCE.trapezoid(a, b, n, function), trapezoidalSumRoundingDecimalPlaces);
+    }
+
     /**
      * Finds the volume of revolution for the region bounded by <code>functionTop</code>,
      * <code>functionBottom</code>, x = <code>a</code>, and x = <code>b</code>, about y =
@@ -416,15 +806,43 @@ public final class Calculatte {
      * @return The volume of revolution.
      */
     public double revolve(double a, double b, double axis, Function functionTop, Function functionBottom) {
-        // The top function with the axis offset, squared.
-        Function squaredFunctionTop = x -> Math.pow(axis - functionTop.f(x), 2);
+        return revolve(a, b, axis, functionTop, functionBottom, null, null);
+    }
 
-        // The bottom function with the axis offset, squared.
-        Function squaredFunctionBottom = x -> Math.pow(axis - functionBottom.f(x), 2);
+    /**
+     * Finds the volume of revolution for the region bounded by <code>functionTop</code>,
+     * <code>functionBottom</code>, x = <code>a</code>, and x = <code>b</code>, about y =
+     * <code>axis</code>, checking <code>token</code> and reporting to <code>listener</code> after
+     * every block of function evaluations. The result is the same as without them.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param axis The y value of the axis of rotation, where 0 is about the x-axis.
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     * @param token The token to stop the calculation with, or <code>null</code>.
+     * @param listener The listener to report progress to, or <code>null</code>.
+     * @return The volume of revolution.
+     * @throws CalculationCancelledException If <code>token</code> is cancelled before the
+     * calculation finishes.
+     */
+    public double revolve(double a, double b, double axis, Function functionTop, Function functionBottom,
+                          CancellationToken token, ProgressListener listener) {
+        return cached(() -> {
+            // The top function with the axis offset, squared.
+            Function squaredFunctionTop = x -> Math.pow(axis - functionTop.f(x), 2);
 
-        // Split the volume of revolution formula into two separate integrals.
-        double volume = Math.PI * (integrateRaw(a, b, squaredFunctionTop) - integrate(a, b, squaredFunctionBottom));
-        return round(volume, revolutionRoundingDecimalPlaces);
+            // The bottom function with the axis offset, squared.
+            Function squaredFunctionBottom = x -> Math.pow(axis - functionBottom.f(x), 2);
+
+            // Split the volume of revolution formula into two separate integrals.
+            long total = 2L * n;
+            double bottom = round(integrateRaw(a, b, squaredFunctionBottom, token, listener, 0, total),
+                    integrationRoundingDecimalPlaces);
+            double volume = Math.PI * (integrateRaw(a, b, squaredFunctionTop, token, listener, n, total) - bottom);
+            return round(volume, revolutionRoundingDecimalPlaces);
+        }, "revolve", a, b, axis, functionTop, functionBottom, n, integrationRoundingDecimalPlaces,
+                revolutionRoundingDecimalPlaces);
     }
 
     /**
@@ -449,7 +867,44 @@ public final class Calculatte {
      * @see io.github.derivasians.calculatte.Calculatte#SEMICIRCLE
      */
     public double crossSection(double a, double b, Function functionTop, Function functionBottom, int type) {
-        Function integrand = switch (type) {
+        return crossSection(a, b, functionTop, functionBottom, type, null, null);
+    }
+
+    /**
+     * Finds the volume of a known cross-section for any of the 5 common known cross-sections,
+     * checking <code>token</code> and reporting to <code>listener</code> after every block of
+     * function evaluations. The result is the same as without them.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     * @param type The type of cross-section.
+     * @param token The token to stop the calculation with, or <code>null</code>.
+     * @param listener The listener to report progress to, or <code>null</code>.
+     * @return The volume of the known cross-section.
+     * @throws CalculationCancelledException If <code>token</code> is cancelled before the
+     * calculation finishes.
+     * @see io.github.derivasians.calculatte.Calculatte#crossSection(double, double, Function, Function, int)
+     */
+    public double crossSection(double a, double b, Function functionTop, Function functionBottom, int type,
+                               CancellationToken token, ProgressListener listener) {
+        Function integrand = crossSectionIntegrand(functionTop, functionBottom, type);
+        return cached(() -> round(integrateRaw(a, b, integrand, token, listener, 0, n),
+                        crossSectionsRoundingDecimalPlaces),
+                "crossSection", a, b, functionTop, functionBottom, type, n, crossSectionsRoundingDecimalPlaces);
+    }
+
+    /**
+     * Finds the area of a known cross-section, of any of the 5 common types, as a function of x.
+     *
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     * @param type The type of cross-section.
+     * @return The integrand of the volume of the known cross-section.
+     */
+    private Function crossSectionIntegrand(Function functionTop, Function functionBottom, int type) {
+        return switch (type) {
             case 0 -> // Square
                     x -> Math.pow(functionTop.f(x) - functionBottom.f(x), 2);
             case 1 -> // Equilateral triangle
@@ -469,8 +924,6 @@ public final class Calculatte {
                 throw new IllegalArgumentException(errorMessage);
             }
         };
-
-        return round(integrateRaw(a, b, integrand), crossSectionsRoundingDecimalPlaces);
     }
 
     /**
@@ -485,7 +938,29 @@ public final class Calculatte {
      * @see io.github.derivasians.calculatte.Calculatte#crossSection(double, double, Function, Function, int) 
      */
     public double crossSection(double a, double b, Function integrand) {
-        return round(integrateRaw(a, b, integrand), crossSectionsRoundingDecimalPlaces);
+        return crossSection(a, b, integrand, null, null);
+    }
+
+    /**
+     * Finds the volume of a known cross-section for a custom made cross-section formula, checking
+     * <code>token</code> and reporting to <code>listener</code> after every block of function
+     * evaluations. The result is the same as without them.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param integrand The integrand of the integral when taking the volume of a
+     *                  known cross-section.
+     * @param token The token to stop the calculation with, or <code>null</code>.
+     * @param listener The listener to report progress to, or <code>null</code>.
+     * @return The volume of the known cross-section.
+     * @throws CalculationCancelledException If <code>token</code> is cancelled before the
+     * calculation finishes.
+     */
+    public double crossSection(double a, double b, Function integrand, CancellationToken token,
+                               ProgressListener listener) {
+        return cached(() -> round(integrateRaw(a, b, integrand, token, listener, 0, n),
+                        crossSectionsRoundingDecimalPlaces),
+                "crossSection", a, b, integrand, n, crossSectionsRoundingDecimalPlaces);
     }
 
     /**
@@ -496,14 +971,10 @@ public final class Calculatte {
      * @param function The function to find the limit of.
      * @return The value of the limit or <code>Double.Nan</code>
      * if the limit DNE.
+     * @see io.github.derivasians.calculatte.Calculatte#estimateLimit(double, Function)
      */
     public double limit(double x, Function function) {
-        if ((leftLimit(x, function) > rightLimit(x, function) + limitTolerance) ||
-                (leftLimit(x, function) < rightLimit(x, function) - limitTolerance)) {
-            return Double.NaN;
-        }
-
-        return round(function.f(x + limitOffset), limitRoundingDecimalPlaces);
+        return round(estimateLimit(x, function).getValue(), limitRoundingDecimalPlaces);
     }
 
     /**
@@ -512,9 +983,10 @@ public final class Calculatte {
      * @param x The x-value to find the limit at.
      * @param function The function to find the limit of.
      * @return The value of the left limit.
+     * @see io.github.derivasians.calculatte.Calculatte#estimateLeftLimit(double, Function)
      */
     public double leftLimit(double x, Function function) {
-        return round(function.f(x - limitOffset), leftLimitRoundingDecimalPlaces);
+        return round(estimateLeftLimit(x, function).getValue(), leftLimitRoundingDecimalPlaces);
     }
 
     /**
@@ -523,9 +995,10 @@ public final class Calculatte {
      * @param x The x-value to find the limit at.
      * @param function The function to find the limit of.
      * @return The value of the right limit.
+     * @see io.github.derivasians.calculatte.Calculatte#estimateRightLimit(double, Function)
      */
     public double rightLimit(double x, Function function) {
-        return round(function.f(x + limitOffset), rightLimitRoundingDecimalPlaces);
+        return round(estimateRightLimit(x, function).getValue(), rightLimitRoundingDecimalPlaces);
     }
 
     /**
@@ -538,8 +1011,589 @@ public final class Calculatte {
      * @return The area of the bounded region.
      */
     public double polarArea(double a, double b, Function r) {
-        Function squaredR = x -> Math.pow(r.f(x), 2);
-        double area = 0.5 * integrateRaw(a, b, squaredR);
-        return round(area, polarAreaRoundingDecimalPlaces);
+        if (r instanceof PeriodicFunction periodic) {
+            return polarArea(a, b, r, periodic.period());
+        }
+
+        return cached(() -> {
+            Function squaredR = x -> Math.pow(r.f(x), 2);
+            double area = 0.5 * integrateRaw(a, b, squaredR);
+            return round(area, polarAreaRoundingDecimalPlaces);
+        }, "polarArea", a, b, r, n, polarAreaRoundingDecimalPlaces);
+    }
+
+    /**
+     * Finds the area bounded by a polar function, <code>r</code> of theta, between two radian
+     * measures. When b - a is a whole number of periods, the area is found with the periodic
+     * trapezoidal rule, which usually needs only tens of evaluations.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param r The polar function of theta bounding a specified area.
+     * @param period The period of <code>r</code>.
+     * @return The area of the bounded region.
+     * @throws IllegalArgumentException If <code>period</code> is zero or not finite.
+     * @see io.github.derivasians.calculatte.Calculatte#integratePeriodic(double, double, Function)
+     */
+    public double polarArea(double a, double b, Function r, double period) {
+        if (period == 0 || !Double.isFinite(period)) {
+            final String errorMessage =
+                    String.format(
+                            "<%s> is not a valid period. Please enter a finite, nonzero period.",
+                            period
+                    );
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        return cached(() -> {
+            Function squaredR = x -> Math.pow(r.f(x), 2);
+            double periods = (b - a) / period;
+            boolean wholePeriods = Math.round(periods) != 0
+                    && Math.abs(periods - Math.round(periods)) <= 0.000000001 * Math.abs(periods);
+
+            double area = 0.5 * (wholePeriods ? integratePeriodicRaw(a, b, squaredR)
+                    : integrateRaw(a, b, squaredR));
+            return round(area, polarAreaRoundingDecimalPlaces);
+        }, "polarArea", a, b, r, period, n, periodicTolerance, periodicMinimumPoints,
+                polarAreaRoundingDecimalPlaces);
+    }
+
+    /**
+     * Finds the result of a calculation in <code>resultCache</code>, or calculates it if there is
+     * no cache or no result cached. The infinities rounded to by <code>round()</code> are added to
+     * every key, as they affect every cached calculation.
+     *
+     * @param calculation Calculates the result.
+     * @param key The name of the calculation, its arguments and every setting it depends on.
+     * @return The cached or calculated result.
+     */
+    private double cached(DoubleSupplier calculation, Object... key) {
+        ResultCache cache = resultCache;
+        if (cache == null) {
+            return calculation.getAsDouble();
+        }
+
+        Object[] fullKey = Arrays.copyOf(key, key.length + 2);
+        fullKey[key.length] = positiveInfinity;
+        fullKey[key.length + 1] = negativeInfinity;
+        return cache.get(List.of(fullKey), calculation);
+    }
+
+    /**
+     * Integrates a periodic function over whole periods from a to b using the trapezoidal rule,
+     * which converges exponentially fast for smooth periodic functions. The number of points is
+     * doubled, reusing every point already evaluated, until three successive sums agree to within
+     * <code>periodicTolerance</code> or <code>n</code> points are reached.
+     *
+     * <p>Note: b - a must be a whole number of periods of the function, or the result will be
+     * no more accurate than the plain trapezoidal rule.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The periodic function to integrate.
+     * @return The area under the curve from a to b.
+     */
+    public double integratePeriodic(double a, double b, Function function) {
+        return round(integratePeriodicRaw(a, b, function), integrationRoundingDecimalPlaces);
+    }
+
+    /**
+     * Integrates a periodic function over whole periods from a to b using the trapezoidal rule,
+     * without rounding.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The periodic function to integrate.
+     * @return The area under the curve from a to b, not rounded.
+     */
+    private double integratePeriodicRaw(double a, double b, Function function) {
+        int points = Math.max(1, periodicMinimumPoints);
+        double h = (b - a) / points; // Step size.
+
+        // f(b) = f(a), so only one end is sampled.
+        double sum = 0;
+        for (int i = 0; i < points; i++) {
+            sum += function.f(a + h * i);
+        }
+        double trapezoid = sum * h;
+
+        // A frequency that is a multiple of the number of points aliases to a constant, so one
+        // agreeing refinement is not enough to tell it from convergence.
+        final int agreementsNeeded = 2;
+        int agreements = 0;
+        while (points <= n / 2) {
+            // Add the midpoint of every current interval.
+            double midpoints = 0;
+            for (int i = 0; i < points; i++) {
+                midpoints += function.f(a + h * (i + 0.5));
+            }
+
+            double refined = trapezoid / 2 + midpoints * h / 2;
+            points *= 2;
+            h /= 2;
+
+            boolean agreed = Math.abs(refined - trapezoid) <= periodicTolerance * Math.max(1, Math.abs(refined));
+            agreements = agreed ? agreements + 1 : 0;
+            trapezoid = refined;
+            if (agreements >= agreementsNeeded) {
+                break;
+            }
+        }
+
+        return trapezoid;
+    }
+
+    /**
+     * Integrates the function from a to b, refining progressively until the estimate is within
+     * <code>estimateTolerance</code> or <code>n</code> evaluations have been used.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The function to integrate.
+     * @return The estimated area under the curve from a to b.
+     * @see io.github.derivasians.calculatte.Calculatte#estimateIntegral(double, double, Function, Budget)
+     */
+    public Estimate estimateIntegral(double a, double b, Function function) {
+        return estimateIntegral(a, b, function, Budget.evaluations(n));
+    }
+
+    /**
+     * Integrates the function from a to b, refining progressively until the estimate is within
+     * <code>estimateTolerance</code> or the budget runs out. Each refinement halves the step
+     * size of Simpson's rule, reusing every point already evaluated, so the best estimate so far
+     * is always at hand when the budget runs out.
+     *
+     * <p>Note: If the function is infinite or <code>Double.NaN</code> at any point evaluated, as
+     * at an endpoint where it has a vertical asymptote, refining stops and the estimate is not
+     * converged, with an infinite error.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param function The function to integrate.
+     * @param budget The most work the estimate may take.
+     * @return The estimated area under the curve from a to b.
+     */
+    public Estimate estimateIntegral(double a, double b, Function function, Budget budget) {
+        final int minimumLevels = 4; // Never trust fewer than 16 intervals.
+        long start = System.nanoTime();
+        long deadline = budget.deadline(start);
+        long maxEvaluations = budget.getMaxEvaluations();
+        double width = b - a;
+
+        if (maxEvaluations < 2) {
+            double value = width * function.f((a + b) / 2);
+            return new Estimate(value, Double.POSITIVE_INFINITY, 1, System.nanoTime() - start, false);
+        }
+
+        double trapezoid = width / 2 * (function.f(a) + function.f(b));
+        double simpson = Double.NaN;
+        double error = Double.POSITIVE_INFINITY;
+        long evaluations = 2;
+        long intervals = 1;
+        boolean converged = false;
+
+        for (int level = 1; level < Long.SIZE - 2; level++) {
+            if (evaluations + intervals > maxEvaluations || Budget.expired(deadline)) {
+                break;
+            }
+
+            // Sum the midpoints of every current interval, checking the deadline every block.
+            double h = width / intervals;
+            double sum = 0;
+            boolean expired = false;
+            for (long i = 0; i < intervals; i++) {
+                sum += function.f(a + h * (i + 0.5));
+                evaluations++;
+                if ((i & 1023) == 1023 && Budget.expired(deadline)) {
+                    expired = true;
+                    break;
+                }
+            }
+
+            if (expired) {
+                break;
+            }
+
+            double refinedTrapezoid = trapezoid / 2 + h / 2 * sum;
+            double refinedSimpson = (4 * refinedTrapezoid - trapezoid) / 3;
+            error = Double.isNaN(simpson)
+                    ? Math.abs(refinedTrapezoid - trapezoid)
+                    : Math.abs(refinedSimpson - simpson) / 15;
+            trapezoid = refinedTrapezoid;
+            simpson = refinedSimpson;
+            intervals *= 2;
+
+            // A sample that is infinite or NaN stays in every refinement, so refining cannot help.
+            if (!Double.isFinite(simpson) || !Double.isFinite(error)) {
+                error = Double.POSITIVE_INFINITY;
+                break;
+            }
+
+            if (level >= minimumLevels && error <= estimateTolerance * Math.max(1, Math.abs(simpson))) {
+                converged = true;
+                break;
+            }
+        }
+
+        double value = Double.isNaN(simpson) ? trapezoid : simpson;
+        return new Estimate(value, error, evaluations, System.nanoTime() - start, converged);
+    }
+
+    /**
+     * Finds the derivative of the function at point, x, by Richardson extrapolation of the left
+     * and right difference quotients.
+     *
+     * @param x The point on the function to find the derivative.
+     * @param function The function to find the derivative of.
+     * @return The estimated derivative, with a value of <code>Double.NaN</code> if the derivative DNE.
+     * @see io.github.derivasians.calculatte.Calculatte#estimateDerivative(double, Function, Budget)
+     */
+    public Estimate estimateDerivative(double x, Function function) {
+        return estimateDerivative(x, function, Budget.UNLIMITED);
+    }
+
+    /**
+     * Finds the derivative of the function at point, x, by Richardson extrapolation of the left
+     * and right difference quotients. The step starts at 0.1 and is halved until the estimate is
+     * within <code>estimateTolerance</code>, or until the budget or the steps run out. Only an
+     * estimate within <code>estimateTolerance</code> is converged. If the left and right
+     * derivatives disagree by more than their errors and <code>derivativeTolerance</code>, the
+     * derivative DNE, and the estimate is not converged.
+     *
+     * @param x The point on the function to find the derivative.
+     * @param function The function to find the derivative of.
+     * @param budget The most work the estimate may take.
+     * @return The estimated derivative, with a value of <code>Double.NaN</code> if the derivative DNE.
+     */
+    public Estimate estimateDerivative(double x, Function function, Budget budget) {
+        final int maxSteps = 24;
+        long start = System.nanoTime();
+        long deadline = budget.deadline(start);
+        RichardsonTableau left = new RichardsonTableau(2, 1);
+        RichardsonTableau right = new RichardsonTableau(2, 1);
+
+        // The best estimates from every tableau so far, as a tableau is restarted when it diverges.
+        double leftValue = Double.NaN, leftError = Double.POSITIVE_INFINITY;
+        double rightValue = Double.NaN, rightError = Double.POSITIVE_INFINITY;
+
+        double fx = function.f(x);
+        long evaluations = 1;
+        double step = 0.1;
+        boolean converged = false;
+
+        for (int k = 0; k < maxSteps; k++) {
+            if (evaluations + 2 > budget.getMaxEvaluations() || Budget.expired(deadline)) {
+                break;
+            }
+
+            // The distances to the points actually evaluated, which differ from step by round-off.
+            double leftStep = x - (x - step);
+            double rightStep = (x + step) - x;
+            left.add((fx - function.f(x - leftStep)) / leftStep);
+            right.add((function.f(x + rightStep) - fx) / rightStep);
+            evaluations += 2;
+            step /= 2;
+
+            if (left.getError() <= leftError || Double.isNaN(leftValue)) {
+                leftValue = left.getValue();
+                leftError = left.getError();
+            }
+
+            if (right.getError() <= rightError || Double.isNaN(rightValue)) {
+                rightValue = right.getValue();
+                rightError = right.getError();
+            }
+
+            double scale = Math.max(1, Math.abs(rightValue));
+            if (Math.max(leftError, rightError) <= estimateTolerance * scale) {
+                converged = true;
+                break;
+            }
+
+            // Steps too wide for the function, as for high frequencies, make a tableau diverge, and
+            // starting over from the current step recovers. Steps too narrow, once round-off
+            // dominates, do too, and then the best estimates so far are kept.
+            if (left.isDiverging() && right.isDiverging()) {
+                if (step < 0.00001 * Math.max(1, Math.abs(x))) {
+                    break;
+                }
+
+                left = new RichardsonTableau(2, 1);
+                right = new RichardsonTableau(2, 1);
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (Double.isNaN(leftValue) || Double.isNaN(rightValue)) {
+            return new Estimate(Double.NaN, Double.POSITIVE_INFINITY, evaluations, elapsed, false);
+        }
+
+        double difference = Math.abs(leftValue - rightValue);
+
+        if (difference > derivativeTolerance + 8 * (leftError + rightError)) {
+            return new Estimate(Double.NaN, Double.NaN, evaluations, elapsed, false);
+        }
+
+        double value = (leftValue + rightValue) / 2;
+        double error = Math.max(leftError, rightError) + difference / 2;
+        return new Estimate(value, error, evaluations, elapsed, converged);
+    }
+
+    /**
+     * Finds the limit of <code>function</code> at point <code>x</code> by approaching x from both
+     * sides through a sequence of points each, and extrapolating the last
+     * <code>limitSequenceLength</code> points of each side's sequence with Richardson extrapolation
+     * or Wynn's epsilon algorithm, whichever is estimated to be more accurate. Each side goes on
+     * for up to <code>limitExtraPoints</code> more points until it converges. The limit exists if
+     * both sides agree to within <code>limitTolerance</code> (relative to the limit for limits
+     * larger than 1) and their errors, and is converged if both sides converge. Limits at
+     * <code>Double.POSITIVE_INFINITY</code> and <code>Double.NEGATIVE_INFINITY</code> are
+     * approached from the one side there is.
+     *
+     * @param x The x-value to find the limit at.
+     * @param function The function to find the limit of.
+     * @return The estimated limit, with a value of <code>Double.NaN</code> if the limit DNE, or
+     * an infinite value if the function grows without bound on both sides.
+     * @see io.github.derivasians.calculatte.Calculatte#limit(double, Function)
+     */
+    public Estimate estimateLimit(double x, Function function) {
+        long start = System.nanoTime();
+        if (Double.isInfinite(x)) {
+            return estimateOneSidedLimit(x, function, 0, start);
+        }
+
+        Estimate left = estimateOneSidedLimit(x, function, -1, start);
+        Estimate right = estimateOneSidedLimit(x, function, 1, start);
+        long evaluations = left.getEvaluations() + right.getEvaluations();
+        long elapsed = System.nanoTime() - start;
+        double l = left.getValue();
+        double r = right.getValue();
+
+        if (Double.isInfinite(l) || Double.isInfinite(r)) {
+            boolean exists = l == r;
+            return new Estimate(exists ? l : Double.NaN, Double.NaN, evaluations, elapsed, exists);
+        }
+
+        double value = (l + r) / 2;
+        double tolerance = limitTolerance * Math.max(1, Math.abs(value));
+        double errors = knownError(left) + knownError(right);
+        if (Double.isNaN(value) || Math.abs(l - r) > tolerance + errors) {
+            return new Estimate(Double.NaN, Double.NaN, evaluations, elapsed, false);
+        }
+
+        double error = Math.max(left.getError(), right.getError()) + Math.abs(l - r) / 2;
+        return new Estimate(value, error, evaluations, elapsed, left.isConverged() && right.isConverged());
+    }
+
+    /**
+     * Finds the left limit of <code>function</code> at point <code>x</code> by approaching x
+     * through a sequence of points and extrapolating.
+     *
+     * @param x The x-value to find the limit at.
+     * @param function The function to find the limit of.
+     * @return The estimated left limit, with a value of <code>Double.NaN</code> if the limit DNE,
+     * or an infinite value if the function grows without bound.
+     * @see io.github.derivasians.calculatte.Calculatte#estimateLimit(double, Function)
+     */
+    public Estimate estimateLeftLimit(double x, Function function) {
+        return estimateOneSidedLimit(x, function, -1, System.nanoTime());
+    }
+
+    /**
+     * Finds the right limit of <code>function</code> at point <code>x</code> by approaching x
+     * through a sequence of points and extrapolating.
+     *
+     * @param x The x-value to find the limit at.
+     * @param function The function to find the limit of.
+     * @return The estimated right limit, with a value of <code>Double.NaN</code> if the limit DNE,
+     * or an infinite value if the function grows without bound.
+     * @see io.github.derivasians.calculatte.Calculatte#estimateLimit(double, Function)
+     */
+    public Estimate estimateRightLimit(double x, Function function) {
+        return estimateOneSidedLimit(x, function, 1, System.nanoTime());
+    }
+
+    /**
+     * Approaches x from one side along a geometric sequence of points and extrapolates the
+     * function's values at them. At infinity, the points are x<sub>k</sub> = 1 / h<sub>k</sub>,
+     * so the same extrapolation in h applies.
+     *
+     * @param x The x-value to find the limit at.
+     * @param function The function to find the limit of.
+     * @param direction -1 to approach from the left, 1 to approach from the right. Ignored at
+     *                  infinity.
+     * @param start The <code>System.nanoTime()</code> the calculation started at.
+     * @return The estimated one-sided limit.
+     */
+    private Estimate estimateOneSidedLimit(double x, Function function, int direction, long start) {
+        final int length = limitSequenceLength;
+        if (length < 3) {
+            throw new IllegalArgumentException("There must be at least three points approaching a limit.");
+        }
+
+        if (limitExtraPoints < 0) {
+            throw new IllegalArgumentException("The number of extra points approaching a limit must not be negative.");
+        }
+
+        boolean infinite = Double.isInfinite(x);
+        double step = limitInitialStep;
+        double[] values = new double[length + limitExtraPoints];
+        int evaluations = 0;
+
+        while (evaluations < values.length) {
+            double point = infinite ? Math.copySign(1 / step, x) : x + direction * step;
+            if (point == x) {
+                break; // Closer than the doubles near x can get.
+            }
+
+            values[evaluations++] = function.f(point);
+            step /= 2;
+            if (evaluations < length) {
+                continue;
+            }
+
+            // Extrapolate the last limitSequenceLength values, so points too far from x for the
+            // function's behaviour near x are left behind as the sequence goes on.
+            double[] window = Arrays.copyOfRange(values, evaluations - length, evaluations);
+
+            // Checked first, as extrapolating a diverging geometric sequence finds its finite antilimit.
+            if (growsWithoutBound(window)) {
+                double last = window[length - 1];
+                return new Estimate(Math.copySign(Double.POSITIVE_INFINITY, last), Double.NaN, evaluations,
+                        System.nanoTime() - start, true);
+            }
+
+            RichardsonTableau richardson = new RichardsonTableau(2, 1);
+            WynnEpsilon wynn = new WynnEpsilon();
+            for (double value : window) {
+                richardson.add(value);
+                wynn.add(value);
+            }
+
+            boolean useWynn = wynn.getError() < richardson.getError() || Double.isNaN(richardson.getValue());
+            double value = useWynn ? wynn.getValue() : richardson.getValue();
+            double error = useWynn ? wynn.getError() : richardson.getError();
+
+            if (Double.isFinite(value) && error <= limitTolerance * Math.max(1, Math.abs(value))) {
+                return new Estimate(value, error, evaluations, System.nanoTime() - start, true);
+            }
+        }
+
+        if (evaluations < length && !infinite) {
+            // The doubles near x ran out before there were enough points to extrapolate, as far
+            // from 0, so the closest of them is as near to the limit as can be found.
+            double last = evaluations > 0 ? values[evaluations - 1]
+                    : function.f(Math.nextAfter(x, direction * Double.POSITIVE_INFINITY));
+            return new Estimate(last, Double.NaN, Math.max(evaluations, 1), System.nanoTime() - start, false);
+        }
+
+        return new Estimate(Double.NaN, Double.NaN, evaluations, System.nanoTime() - start, false);
+    }
+
+    /**
+     * Returns the error of a one-sided limit, or 0 if it is not known.
+     */
+    private double knownError(Estimate estimate) {
+        return Double.isNaN(estimate.getError()) ? 0 : estimate.getError();
+    }
+
+    /**
+     * Checks whether the last values of a sequence keep one sign and grow in size by steps that
+     * are not shrinking, as when a function approaches a vertical asymptote.
+     */
+    private boolean growsWithoutBound(double[] values) {
+        final int tail = 4;
+        int last = values.length - 1;
+        for (int k = last; k > last - tail && k >= 2; k--) {
+            double v = values[k];
+            double previous = values[k - 1];
+            if (Double.isNaN(v)) {
+                return false;
+            }
+
+            if (v == 0 || Math.signum(v) != Math.signum(previous) || Math.abs(v) <= Math.abs(previous)) {
+                return false;
+            }
+
+            if (Math.abs(v - previous) < 0.9 * Math.abs(previous - values[k - 2])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the volume of revolution for the region bounded by <code>functionTop</code>,
+     * <code>functionBottom</code>, x = <code>a</code>, and x = <code>b</code>, about y =
+     * <code>axis</code>, refining progressively until the estimate is within
+     * <code>estimateTolerance</code> or the budget runs out.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param axis The y value of the axis of rotation, where 0 is about the x-axis.
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     * @param budget The most work the estimate may take.
+     * @return The estimated volume of revolution.
+     * @see io.github.derivasians.calculatte.Calculatte#revolve(double, double, double, Function, Function)
+     */
+    public Estimate estimateRevolution(double a, double b, double axis, Function functionTop,
+                                       Function functionBottom, Budget budget) {
+        Function integrand = x -> Math.PI * (Math.pow(axis - functionTop.f(x), 2)
+                - Math.pow(axis - functionBottom.f(x), 2));
+        return estimateIntegral(a, b, integrand, budget);
+    }
+
+    /**
+     * Finds the volume of a known cross-section for any of the 5 common known cross-sections,
+     * refining progressively until the estimate is within <code>estimateTolerance</code> or the
+     * budget runs out.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     * @param type The type of cross-section.
+     * @param budget The most work the estimate may take.
+     * @return The estimated volume of the known cross-section.
+     * @see io.github.derivasians.calculatte.Calculatte#crossSection(double, double, Function, Function, int)
+     */
+    public Estimate estimateCrossSection(double a, double b, Function functionTop, Function functionBottom,
+                                         int type, Budget budget) {
+        return estimateIntegral(a, b, crossSectionIntegrand(functionTop, functionBottom, type), budget);
+    }
+
+    /**
+     * Finds the volume of a known cross-section for a custom made cross-section formula, refining
+     * progressively until the estimate is within <code>estimateTolerance</code> or the budget
+     * runs out.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param integrand The integrand of the integral when taking the volume of a
+     *                  known cross-section.
+     * @param budget The most work the estimate may take.
+     * @return The estimated volume of the known cross-section.
+     * @see io.github.derivasians.calculatte.Calculatte#crossSection(double, double, Function)
+     */
+    public Estimate estimateCrossSection(double a, double b, Function integrand, Budget budget) {
+        return estimateIntegral(a, b, integrand, budget);
+    }
+
+    /**
+     * Finds the area bounded by a polar function, <code>r</code> of theta, between two radian
+     * measures, refining progressively until the estimate is within
+     * <code>estimateTolerance</code> or the budget runs out.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param r The polar function of theta bounding a specified area.
+     * @param budget The most work the estimate may take.
+     * @return The estimated area of the bounded region.
+     * @see io.github.derivasians.calculatte.Calculatte#polarArea(double, double, Function)
+     */
+    public Estimate estimatePolarArea(double a, double b, Function r, Budget budget) {
+        return estimateIntegral(a, b, x -> 0.5 * Math.pow(r.f(x), 2), budget);
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * Lets a long calculation be stopped from another thread. Calculations given
+ * a token check it every block of function evaluations, and throw a
+ * <code>CalculationCancelledException</code> once it has been cancelled.
+ *
+ * <p>Note: A token cannot be reset. Once cancelled, every calculation given
+ * it stops.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Calculatte#integrate(double, double, Function, CancellationToken, ProgressListener)
+ */
+public final class CancellationToken {
+    private volatile boolean cancelled;
+
+    /**
+     * Cancels every calculation given this token.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Finds whether this token has been cancelled.
+     *
+     * @return Whether <code>cancel()</code> has been called.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
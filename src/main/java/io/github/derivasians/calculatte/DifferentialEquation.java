@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * The DifferentialEquation interface for systems of first order ordinary
+ * differential equations, y' = g(x, y), where y is a vector.
+ *
+ * <p>Note: Higher order equations can be solved by rewriting them as a system.
+ * For example, y'' = -y becomes y<sub>0</sub>' = y<sub>1</sub> and
+ * y<sub>1</sub>' = -y<sub>0</sub>.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.DormandPrince
+ */
+public interface DifferentialEquation {
+    /**
+     * Calculates the derivatives of every component of y at x.
+     *
+     * <p>Note: Implementations must not keep a reference to <code>y</code> or
+     * <code>dydx</code>, as both arrays are reused.
+     *
+     * @param x The x-value to find the derivatives at.
+     * @param y The value of every component of y at x.
+     * @param dydx The array to write the derivative of every component into.
+     */
+    void f(double x, double[] y, double[] dydx);
+}
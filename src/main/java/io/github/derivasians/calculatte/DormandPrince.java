@@ -0,0 +1,277 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import java.util.Arrays;
+
+/**
+ * Solves initial value problems with the Dormand-Prince embedded Runge-Kutta
+ * method of order 5(4).
+ *
+ * <p>Each step's error is estimated from the difference between its fifth and
+ * fourth order solutions, and the step size is adapted so that the error stays
+ * within <code>absoluteTolerance</code> and <code>relativeTolerance</code>. The
+ * last stage of each step is the first stage of the next, so every step takes
+ * 6 evaluations. The solution is returned with a continuous fourth order
+ * interpolant, so it can be evaluated anywhere, not only at the steps taken.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Solution
+ */
+public final class DormandPrince {
+    /**
+     * Represents the largest error allowed in each step, relative to the size
+     * of the solution. The smaller the more accurate.
+     */
+    public static double relativeTolerance = 0.000000001;
+
+    /**
+     * Represents the largest error allowed in each step, when the solution is
+     * near 0. The smaller the more accurate.
+     */
+    public static double absoluteTolerance = 0.000000000001;
+
+    /**
+     * Represents how many steps may be taken before giving up.
+     */
+    public static int maxSteps = 1000000;
+
+    // Nodes, Runge-Kutta matrix, error and dense output coefficients.
+    private static final double C2 = 1.0 / 5.0, C3 = 3.0 / 10.0, C4 = 4.0 / 5.0, C5 = 8.0 / 9.0;
+    private static final double A21 = 1.0 / 5.0;
+    private static final double A31 = 3.0 / 40.0, A32 = 9.0 / 40.0;
+    private static final double A41 = 44.0 / 45.0, A42 = -56.0 / 15.0, A43 = 32.0 / 9.0;
+    private static final double A51 = 19372.0 / 6561.0, A52 = -25360.0 / 2187.0, A53 = 64448.0 / 6561.0,
+            A54 = -212.0 / 729.0;
+    private static final double A61 = 9017.0 / 3168.0, A62 = -355.0 / 33.0, A63 = 46732.0 / 5247.0,
+            A64 = 49.0 / 176.0, A65 = -5103.0 / 18656.0;
+    private static final double A71 = 35.0 / 384.0, A73 = 500.0 / 1113.0, A74 = 125.0 / 192.0,
+            A75 = -2187.0 / 6784.0, A76 = 11.0 / 84.0;
+    private static final double E1 = 71.0 / 57600.0, E3 = -71.0 / 16695.0, E4 = 71.0 / 1920.0,
+            E5 = -17253.0 / 339200.0, E6 = 22.0 / 525.0, E7 = -1.0 / 40.0;
+    private static final double D1 = -12715105075.0 / 11282082432.0, D3 = 87487479700.0 / 32700410799.0,
+            D4 = -10690763975.0 / 1880347072.0, D5 = 701980252875.0 / 199316789632.0,
+            D6 = -1453857185.0 / 822651844.0, D7 = 69997945.0 / 29380423.0;
+
+    /**
+     * Solves y' = g(x, y) with y(<code>x0</code>) = <code>y0</code>, from <code>x0</code> to
+     * <code>x1</code>.
+     *
+     * @param g The derivative of y as a function of x and y.
+     * @param x0 The x-value of the initial condition.
+     * @param y0 The y-value of the initial condition.
+     * @param x1 The x-value to solve up to. May be less than <code>x0</code>.
+     * @return The solution, as a function of x.
+     */
+    public Solution solve(BivariateFunction g, double x0, double y0, double x1) {
+        return solve((x, y, dydx) -> dydx[0] = g.f(x, y[0]), x0, new double[]{y0}, x1);
+    }
+
+    /**
+     * Solves the system y' = g(x, y) with y(<code>x0</code>) = <code>y0</code>, from
+     * <code>x0</code> to <code>x1</code>.
+     *
+     * @param system The system of differential equations.
+     * @param x0 The x-value of the initial condition.
+     * @param y0 The value of every component of y at <code>x0</code>.
+     * @param x1 The x-value to solve up to. May be less than <code>x0</code>.
+     * @return The solution, as a function of x.
+     */
+    public Solution solve(DifferentialEquation system, double x0, double[] y0, double x1) {
+        final int dimensions = y0.length;
+        if (dimensions < 1) {
+            throw new IllegalArgumentException("There must be at least one equation.");
+        }
+
+        final double direction = Math.signum(x1 - x0);
+        double[] y = y0.clone();
+        double[] y1 = new double[dimensions];
+        double[] ytmp = new double[dimensions];
+        double[] k1 = new double[dimensions];
+        double[] k2 = new double[dimensions];
+        double[] k3 = new double[dimensions];
+        double[] k4 = new double[dimensions];
+        double[] k5 = new double[dimensions];
+        double[] k6 = new double[dimensions];
+        double[] k7 = new double[dimensions];
+
+        // Start of each step, and its width, and the dense output coefficients of each step.
+        double[] starts = new double[16];
+        double[] widths = new double[16];
+        double[] coefficients = new double[16 * 5 * dimensions];
+        int steps = 0;
+        int rejected = 0;
+
+        double x = x0;
+        system.f(x, y, k1);
+        long evaluations = 1;
+
+        if (direction == 0) {
+            return new Solution(x0, y0.clone(), starts, widths, coefficients, 0, 0, evaluations);
+        }
+
+        double h = direction * initialStep(system, x, y, k1, k2, ytmp, Math.abs(x1 - x0));
+        evaluations++;
+        boolean lastRejected = false;
+
+        while (direction * (x1 - x) > 0) {
+            if (steps + rejected >= maxSteps) {
+                throw new IllegalStateException("The maximum number of steps was reached before x1.");
+            }
+
+            if (Math.abs(h) <= 16 * Math.ulp(x)) {
+                throw new IllegalStateException("The step size became too small to continue.");
+            }
+
+            boolean last = direction * (x + h - x1) >= 0;
+            if (last) {
+                h = x1 - x;
+            }
+
+            for (int i = 0; i < dimensions; i++) {
+                ytmp[i] = y[i] + h * (A21 * k1[i]);
+            }
+            system.f(x + C2 * h, ytmp, k2);
+
+            for (int i = 0; i < dimensions; i++) {
+                ytmp[i] = y[i] + h * (A31 * k1[i] + A32 * k2[i]);
+            }
+            system.f(x + C3 * h, ytmp, k3);
+
+            for (int i = 0; i < dimensions; i++) {
+                ytmp[i] = y[i] + h * (A41 * k1[i] + A42 * k2[i] + A43 * k3[i]);
+            }
+            system.f(x + C4 * h, ytmp, k4);
+
+            for (int i = 0; i < dimensions; i++) {
+                ytmp[i] = y[i] + h * (A51 * k1[i] + A52 * k2[i] + A53 * k3[i] + A54 * k4[i]);
+            }
+            system.f(x + C5 * h, ytmp, k5);
+
+            for (int i = 0; i < dimensions; i++) {
+                ytmp[i] = y[i] + h * (A61 * k1[i] + A62 * k2[i] + A63 * k3[i] + A64 * k4[i] + A65 * k5[i]);
+            }
+            double xNext = last ? x1 : x + h;
+            system.f(xNext, ytmp, k6);
+
+            for (int i = 0; i < dimensions; i++) {
+                y1[i] = y[i] + h * (A71 * k1[i] + A73 * k3[i] + A74 * k4[i] + A75 * k5[i] + A76 * k6[i]);
+            }
+            system.f(xNext, y1, k7);
+            evaluations += 6;
+
+            // Root mean square of the error scaled by the tolerance of each component.
+            double error = 0;
+            for (int i = 0; i < dimensions; i++) {
+                double e = h * (E1 * k1[i] + E3 * k3[i] + E4 * k4[i] + E5 * k5[i] + E6 * k6[i] + E7 * k7[i]);
+                double scale = absoluteTolerance + relativeTolerance * Math.max(Math.abs(y[i]), Math.abs(y1[i]));
+                error += (e / scale) * (e / scale);
+            }
+            error = Math.sqrt(error / dimensions);
+
+            if (Double.isNaN(error)) {
+                throw new IllegalStateException("The solution is not finite at x = " + x + ".");
+            }
+
+            double factor = error == 0 ? 5 : Math.min(5, Math.max(0.2, 0.9 * Math.pow(error, -0.2)));
+            if (error > 1) {
+                h *= Math.min(1, factor);
+                rejected++;
+                lastRejected = true;
+                continue;
+            }
+
+            // Accept the step and keep its dense output.
+            if (steps == starts.length) {
+                starts = Arrays.copyOf(starts, steps * 2);
+                widths = Arrays.copyOf(widths, steps * 2);
+                coefficients = Arrays.copyOf(coefficients, steps * 2 * 5 * dimensions);
+            }
+
+            starts[steps] = x;
+            widths[steps] = h;
+            int offset = steps * 5 * dimensions;
+            for (int i = 0; i < dimensions; i++) {
+                double difference = y1[i] - y[i];
+                double slope = h * k1[i] - difference;
+                coefficients[offset + i] = y[i];
+                coefficients[offset + dimensions + i] = difference;
+                coefficients[offset + 2 * dimensions + i] = slope;
+                coefficients[offset + 3 * dimensions + i] = difference - h * k7[i] - slope;
+                coefficients[offset + 4 * dimensions + i] =
+                        h * (D1 * k1[i] + D3 * k3[i] + D4 * k4[i] + D5 * k5[i] + D6 * k6[i] + D7 * k7[i]);
+            }
+            steps++;
+
+            x = xNext;
+            double[] swap = y;
+            y = y1;
+            y1 = swap;
+            swap = k1;
+            k1 = k7; // First same as last.
+            k7 = swap;
+
+            // Never grow the step right after a rejection.
+            h *= lastRejected ? Math.min(1, factor) : factor;
+            lastRejected = false;
+        }
+
+        return new Solution(x0, y0.clone(), starts, widths, coefficients, steps, rejected, evaluations);
+    }
+
+    /**
+     * Guesses a first step size from the size of y and its first two derivatives, as suggested
+     * by Hairer, Norsett and Wanner. Uses one evaluation.
+     */
+    private double initialStep(DifferentialEquation system, double x, double[] y, double[] k1, double[] k2,
+                               double[] ytmp, double maxStep) {
+        int dimensions = y.length;
+        double d0 = 0;
+        double d1 = 0;
+        for (int i = 0; i < dimensions; i++) {
+            double scale = absoluteTolerance + relativeTolerance * Math.abs(y[i]);
+            d0 += (y[i] / scale) * (y[i] / scale);
+            d1 += (k1[i] / scale) * (k1[i] / scale);
+        }
+        d0 = Math.sqrt(d0 / dimensions);
+        d1 = Math.sqrt(d1 / dimensions);
+
+        double h0 = (d0 < 0.00001 || d1 < 0.00001) ? 0.000001 : 0.01 * d0 / d1;
+        h0 = Math.min(h0, maxStep);
+
+        // One explicit Euler step to estimate the second derivative.
+        for (int i = 0; i < dimensions; i++) {
+            ytmp[i] = y[i] + h0 * k1[i];
+        }
+        system.f(x + h0, ytmp, k2);
+
+        double d2 = 0;
+        for (int i = 0; i < dimensions; i++) {
+            double scale = absoluteTolerance + relativeTolerance * Math.abs(y[i]);
+            d2 += ((k2[i] - k1[i]) / scale) * ((k2[i] - k1[i]) / scale);
+        }
+        d2 = Math.sqrt(d2 / dimensions) / h0;
+
+        double largest = Math.max(d1, d2);
+        double h1 = largest <= 0.000000000000001
+                ? Math.max(0.000001, h0 * 0.001)
+                : Math.pow(0.01 / largest, 0.2);
+
+        return Math.min(Math.min(100 * h0, h1), maxStep);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * An approximate value along with an estimate of its error, the number of
+ * function evaluations and the time it took to find, and whether it met its
+ * tolerance or was cut short by its budget.
+ *
+ * <p>Note: Unlike the values returned by the methods of <code>Calculatte</code>,
+ * the value of an <code>Estimate</code> is never rounded.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Budget
+ */
+public final class Estimate {
+    private final double value;
+    private final double error;
+    private final long evaluations;
+    private final long elapsedNanos;
+    private final boolean converged;
+
+    /**
+     * Creates an estimate.
+     *
+     * @param value The approximate value.
+     * @param error The estimated absolute error of <code>value</code>.
+     * @param evaluations The number of function evaluations used.
+     * @param elapsedNanos The time taken to find the estimate, in nanoseconds.
+     * @param converged Whether the estimate met its tolerance, rather than
+     *                  being cut short by its budget.
+     */
+    public Estimate(double value, double error, long evaluations, long elapsedNanos, boolean converged) {
+        this.value = value;
+        this.error = error;
+        this.evaluations = evaluations;
+        this.elapsedNanos = elapsedNanos;
+        this.converged = converged;
+    }
+
+    /**
+     * @return The approximate value.
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * @return The estimated absolute error of the value.
+     */
+    public double getError() {
+        return error;
+    }
+
+    /**
+     * @return The number of function evaluations used to find the value.
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * @return The time taken to find the value, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return Whether the estimate met its tolerance, rather than being cut
+     * short by its budget.
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s +/- %s (%d evaluations, %d ns%s)", value, error, evaluations, elapsedNanos,
+                converged ? "" : ", not converged");
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * A function of x parsed from text, such as <code>"3 * x^2 + sin(x)"</code>.
+ *
+ * <p>Expressions may use numbers, the variable <code>x</code>, the constants
+ * <code>pi</code> and <code>e</code>, the operators <code>+ - * / ^</code> and
+ * parentheses, and the functions <code>sin cos tan asin acos atan sinh cosh
+ * tanh exp ln log sqrt cbrt abs</code>, where <code>log</code> is base 10. The
+ * name of a function on its own, such as <code>"sin"</code>, means that function
+ * of x. <code>^</code> is right associative and binds tighter than a leading
+ * minus, so <code>-x^2</code> is <code>-(x^2)</code>.
+ *
+ * <p>An expression is parsed once into a tree of functions. Two expressions
+ * are equal when their text is the same apart from whitespace, so repeated
+ * calculations on the same text can be found in the
+ * <code>Calculatte.resultCache</code>.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ */
+public final class Expression implements Function {
+    private final String source;
+    private final String normalized;
+    private final Function function;
+
+    private Expression(String source, Function function) {
+        this.source = source;
+        this.normalized = source.replaceAll("\\s+", "");
+        this.function = function;
+    }
+
+    /**
+     * Parses an expression of x.
+     *
+     * @param source The text of the expression.
+     * @return The function the expression represents.
+     */
+    public static Expression parse(String source) {
+        Function builtIn = builtIn(source.trim());
+        if (builtIn != null) {
+            return new Expression(source, builtIn);
+        }
+
+        return new Expression(source, new Parser(source, true).parse());
+    }
+
+    /**
+     * Evaluates an expression without a variable, such as <code>"2 * pi"</code>.
+     *
+     * @param source The text of the expression.
+     * @return The value of the expression.
+     */
+    public static double evaluate(String source) {
+        return new Parser(source, false).parse().f(0);
+    }
+
+    /**
+     * Calculates the y-value for a given x-value of this expression.
+     *
+     * @param x The x-value to find the y-value for.
+     * @return The y-value for the given x-value.
+     */
+    @Override
+    public double f(double x) {
+        return function.f(x);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Expression expression && normalized.equals(expression.normalized);
+    }
+
+    @Override
+    public int hashCode() {
+        return normalized.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    /**
+     * Finds the built-in function with the given name, or <code>null</code> if there is none.
+     */
+    private static Function builtIn(String name) {
+        return switch (name) {
+            case "sin" -> Math::sin;
+            case "cos" -> Math::cos;
+            case "tan" -> Math::tan;
+            case "asin" -> Math::asin;
+            case "acos" -> Math::acos;
+            case "atan" -> Math::atan;
+            case "sinh" -> Math::sinh;
+            case "cosh" -> Math::cosh;
+            case "tanh" -> Math::tanh;
+            case "exp" -> Math::exp;
+            case "ln" -> Math::log;
+            case "log" -> Math::log10;
+            case "sqrt" -> Math::sqrt;
+            case "cbrt" -> Math::cbrt;
+            case "abs" -> Math::abs;
+            default -> null;
+        };
+    }
+
+    /**
+     * A recursive descent parser building the function for an expression.
+     *
+     * <pre>
+     * expression = term {("+" | "-") term}
+     * term       = unary {("*" | "/") unary}
+     * unary      = ("+" | "-") unary | power
+     * power      = primary ["^" unary]
+     * primary    = number | name | name "(" expression ")" | "(" expression ")"
+     * </pre>
+     */
+    private static final class Parser {
+        private final String source;
+        private final boolean variable;
+        private int position;
+
+        Parser(String source, boolean variable) {
+            this.source = source;
+            this.variable = variable;
+        }
+
+        Function parse() {
+            Function function = expression();
+            skipWhitespace();
+            if (position < source.length()) {
+                throw error("Unexpected <" + source.charAt(position) + ">");
+            }
+
+            return function;
+        }
+
+        private Function expression() {
+            Function function = term();
+            while (true) {
+                if (accept('+')) {
+                    Function left = function, right = term();
+                    function = x -> left.f(x) + right.f(x);
+                } else if (accept('-')) {
+                    Function left = function, right = term();
+                    function = x -> left.f(x) - right.f(x);
+                } else {
+                    return function;
+                }
+            }
+        }
+
+        private Function term() {
+            Function function = unary();
+            while (true) {
+                if (accept('*')) {
+                    Function left = function, right = unary();
+                    function = x -> left.f(x) * right.f(x);
+                } else if (accept('/')) {
+                    Function left = function, right = unary();
+                    function = x -> left.f(x) / right.f(x);
+                } else {
+                    return function;
+                }
+            }
+        }
+
+        private Function unary() {
+            if (accept('-')) {
+                Function operand = unary();
+                return x -> -operand.f(x);
+            }
+
+            if (accept('+')) {
+                return unary();
+            }
+
+            return power();
+        }
+
+        private Function power() {
+            Function base = primary();
+            if (accept('^')) {
+                Function exponent = unary();
+                return x -> Math.pow(base.f(x), exponent.f(x));
+            }
+
+            return base;
+        }
+
+        private Function primary() {
+            skipWhitespace();
+            if (accept('(')) {
+                Function function = expression();
+                expect(')');
+                return function;
+            }
+
+            int start = position;
+            if (position < source.length() && (Character.isDigit(source.charAt(position))
+                    || source.charAt(position) == '.')) {
+                return number(start);
+            }
+
+            while (position < source.length() && Character.isLetter(source.charAt(position))) {
+                position++;
+            }
+
+            if (start == position) {
+                throw error(position < source.length()
+                        ? "Unexpected <" + source.charAt(position) + ">"
+                        : "Unexpected end of expression");
+            }
+
+            String name = source.substring(start, position);
+            switch (name) {
+                case "x":
+                    if (!variable) {
+                        throw error("<x> cannot be used here");
+                    }
+                    return x -> x;
+                case "pi":
+                    return x -> Math.PI;
+                case "e":
+                    return x -> Math.E;
+                default:
+                    Function builtIn = builtIn(name);
+                    if (builtIn == null) {
+                        position = start;
+                        throw error("<" + name + "> is not a known function or constant");
+                    }
+
+                    expect('(');
+                    Function argument = expression();
+                    expect(')');
+                    return x -> builtIn.f(argument.f(x));
+            }
+        }
+
+        private Function number(int start) {
+            while (position < source.length() && (Character.isDigit(source.charAt(position))
+                    || source.charAt(position) == '.')) {
+                position++;
+            }
+
+            // Exponent, as in 1.5e-3, but not the constant e on its own.
+            if (position + 1 < source.length() && (source.charAt(position) == 'e' || source.charAt(position) == 'E')) {
+                int exponent = position + 1;
+                if (source.charAt(exponent) == '+' || source.charAt(exponent) == '-') {
+                    exponent++;
+                }
+
+                if (exponent < source.length() && Character.isDigit(source.charAt(exponent))) {
+                    position = exponent;
+                    while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                        position++;
+                    }
+                }
+            }
+
+            final double value;
+            try {
+                value = Double.parseDouble(source.substring(start, position));
+            } catch (NumberFormatException e) {
+                position = start;
+                throw error("Invalid number");
+            }
+
+            return x -> value;
+        }
+
+        private void skipWhitespace() {
+            while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean accept(char c) {
+            skipWhitespace();
+            if (position < source.length() && source.charAt(position) == c) {
+                position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!accept(c)) {
+                throw error("Expected <" + c + ">");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(
+                    String.format("%s at position %d of <%s>.", message, position, source));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * The sampling loops behind the integration methods of <code>Calculatte</code>
+ * that take a <code>BulkFunction</code>.
+ *
+ * <p>The vectorized kernel is only used when the <code>jdk.incubator.vector</code>
+ * module has been added to the JVM (<code>--add-modules jdk.incubator.vector</code>).
+ * Otherwise, or if the system property <code>calculatte.vector</code> is <code>false</code>,
+ * the scalar kernel is used.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ */
+interface IntegrationKernel {
+    /**
+     * The kernel best suited to the running JVM.
+     */
+    IntegrationKernel INSTANCE = load();
+
+    /**
+     * Integrates the function from a to b using Simpson's rule with <code>n</code> points,
+     * without rounding.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param n The number of points to sample.
+     * @param function The function to integrate.
+     * @return The area under the curve from a to b, not rounded.
+     */
+    double simpson(double a, double b, int n, BulkFunction function);
+
+    /**
+     * Sums the areas of <code>n</code> rectangles from a to b, each as tall as the function
+     * at <code>offset</code> of the way across the rectangle, without rounding.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param n The number of rectangles.
+     * @param offset Where to sample each rectangle; 0 for left, 0.5 for midpoint and 1 for right.
+     * @param function The function being used to calculate the sum.
+     * @return The approximate area under the curve, not rounded.
+     */
+    double riemann(double a, double b, int n, double offset, BulkFunction function);
+
+    /**
+     * Sums the areas of <code>n</code> trapezoids from a to b, without rounding.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @param n The number of trapezoids.
+     * @param function The function being used to calculate the sum.
+     * @return The approximate area under the curve, not rounded.
+     */
+    double trapezoid(double a, double b, int n, BulkFunction function);
+
+    private static IntegrationKernel load() {
+        boolean enabled = Boolean.parseBoolean(System.getProperty("calculatte.vector", "true"));
+        if (enabled && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (IntegrationKernel) Class.forName("io.github.derivasians.calculatte.VectorIntegrationKernel")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Built without the vector sources; fall back to the scalar kernel.
+            }
+        }
+
+        return new ScalarIntegrationKernel();
+    }
+}
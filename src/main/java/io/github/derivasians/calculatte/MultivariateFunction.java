@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * The MultivariateFunction interface for functions of any number of variables.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Function
+ */
+public interface MultivariateFunction {
+    /**
+     * Calculates the value of this function at a point.
+     *
+     * <p>Note: Implementations must not keep a reference to <code>x</code>, as
+     * the array may be reused for the next point.
+     *
+     * @param x The coordinates of the point, one entry per dimension.
+     * @return The value of the function at the point.
+     */
+    double f(double[] x);
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * The PeriodicFunction interface for functions that repeat every
+ * <code>period()</code>, such as most polar functions. Integrals of periodic
+ * functions over whole periods converge much faster with the trapezoidal rule
+ * than with Simpson's rule.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Calculatte#polarArea(double, double, Function)
+ * @see io.github.derivasians.calculatte.Calculatte#integratePeriodic(double, double, Function)
+ */
+public interface PeriodicFunction extends Function {
+    /**
+     * Finds the period of this function, such that f(x + period) = f(x) for every x.
+     *
+     * @return The period of this function.
+     */
+    double period();
+
+    /**
+     * Declares the period of a function.
+     *
+     * @param function The function.
+     * @param period The period of <code>function</code>.
+     * @return A periodic function calculating the same y-values as <code>function</code>.
+     */
+    static PeriodicFunction of(Function function, double period) {
+        if (!(period > 0) || Double.isInfinite(period)) {
+            throw new IllegalArgumentException("The period must be positive and finite.");
+        }
+
+        return new PeriodicFunction() {
+            @Override
+            public double f(double x) {
+                return function.f(x);
+            }
+
+            @Override
+            public double period() {
+                return period;
+            }
+        };
+    }
+}
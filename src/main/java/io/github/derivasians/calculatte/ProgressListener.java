@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * The ProgressListener interface for observing long calculations. It is
+ * called on the calculating thread after every block of function evaluations,
+ * so it should return quickly.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Calculatte#integrate(double, double, Function, CancellationToken, ProgressListener)
+ */
+public interface ProgressListener {
+    /**
+     * Reports how much of a calculation is done.
+     *
+     * @param completed How many function evaluations have been made.
+     * @param total How many function evaluations the calculation makes in all.
+     */
+    void progress(long completed, long total);
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Contains methods to integrate over regions of two or more dimensions using
+ * randomized quasi-Monte Carlo integration.
+ *
+ * <p>Each integral is estimated <code>replicates</code> times, each time from
+ * <code>points</code> points of a Sobol sequence scrambled with a different
+ * seed. The replicates run in parallel, and the value returned is their mean,
+ * with their standard error as the error estimate. Because every replicate's
+ * seed is derived from <code>seed</code>, the same integral always gives the
+ * same estimate, no matter how the replicates were scheduled. The work done
+ * is fixed, so an estimate is only converged if its standard error happens to
+ * be within <code>Calculatte.estimateTolerance</code>, relative to the value
+ * for values larger than 1. With a single replicate there is no error
+ * estimate, and it never is.
+ *
+ * <p>Note: For double and triple integrals of smooth functions,
+ * <code>Calculatte.doubleIntegrate()</code> and
+ * <code>Calculatte.tripleIntegrate()</code> are usually more accurate.
+ * Quasi-Monte Carlo integration is best suited to higher dimensions, or to
+ * integrands too rough for adaptive quadrature.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.SobolSequence
+ */
+public final class QuasiMonteCarlo {
+    /**
+     * Represents how many points each replicate samples. The larger the more
+     * accurate. Powers of two give the most evenly distributed points.
+     */
+    public static int points = 16384;
+
+    /**
+     * Represents how many independently scrambled replicates are averaged. The
+     * larger the more reliable the error estimate.
+     */
+    public static int replicates = 16;
+
+    /**
+     * Represents the seed all replicates' scrambling is derived from.
+     */
+    public static long seed = 0x5DEECE66DL;
+
+    /**
+     * The integrand over the unit hypercube that a region has been mapped to,
+     * already multiplied by the mapping's Jacobian.
+     */
+    private interface UnitIntegrand {
+        double f(double[] u, double[] scratch);
+    }
+
+    /**
+     * Integrates the function over the box bounded by <code>lower</code> and
+     * <code>upper</code> in each dimension.
+     *
+     * @param lower The lower limit of integration of each dimension.
+     * @param upper The upper limit of integration of each dimension.
+     * @param function The function to integrate.
+     * @return The estimated volume under the function over the box.
+     */
+    public Estimate integrate(double[] lower, double[] upper, MultivariateFunction function) {
+        if (lower.length != upper.length) {
+            throw new IllegalArgumentException("There must be as many lower limits as upper limits.");
+        }
+
+        final int dimensions = lower.length;
+        double volume = 1;
+        for (int d = 0; d < dimensions; d++) {
+            volume *= upper[d] - lower[d];
+        }
+
+        final double jacobian = volume;
+        return sample(dimensions, (u, x) -> {
+            for (int d = 0; d < dimensions; d++) {
+                x[d] = lower[d] + u[d] * (upper[d] - lower[d]);
+            }
+
+            return jacobian * function.f(x);
+        });
+    }
+
+    /**
+     * Integrates the function over the region bounded by
+     * <code>functionTop</code>, <code>functionBottom</code>, x = <code>a</code>,
+     * and x = <code>b</code>.
+     *
+     * @param a The lower limit of integration of x.
+     * @param b The upper limit of integration of x.
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     * @param integrand The function to integrate.
+     * @return The estimated volume under the function over the region.
+     * @see io.github.derivasians.calculatte.Calculatte#doubleIntegrate(double, double, Function, Function, BivariateFunction)
+     */
+    public Estimate integrate(double a, double b, Function functionTop, Function functionBottom,
+                              BivariateFunction integrand) {
+        return sample(2, (u, scratch) -> {
+            final double x = a + u[0] * (b - a);
+            final double yBottom = functionBottom.f(x);
+            final double yTop = functionTop.f(x);
+            final double y = yBottom + u[1] * (yTop - yBottom);
+            return (b - a) * (yTop - yBottom) * integrand.f(x, y);
+        });
+    }
+
+    /**
+     * Integrates the function over the volume bounded by
+     * <code>surfaceTop</code> and <code>surfaceBottom</code>, above the region
+     * bounded by <code>functionTop</code>, <code>functionBottom</code>, x =
+     * <code>a</code>, and x = <code>b</code>.
+     *
+     * @param a The lower limit of integration of x.
+     * @param b The upper limit of integration of x.
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     * @param surfaceTop The top surface defining the bounded volume.
+     * @param surfaceBottom The bottom surface defining the bounded volume.
+     * @param integrand The function to integrate.
+     * @return The estimated integral of the function over the volume.
+     * @see io.github.derivasians.calculatte.Calculatte#tripleIntegrate(double, double, Function, Function, BivariateFunction, BivariateFunction, TrivariateFunction)
+     */
+    public Estimate integrate(double a, double b, Function functionTop, Function functionBottom,
+                              BivariateFunction surfaceTop, BivariateFunction surfaceBottom,
+                              TrivariateFunction integrand) {
+        return sample(3, (u, scratch) -> {
+            final double x = a + u[0] * (b - a);
+            final double yBottom = functionBottom.f(x);
+            final double yTop = functionTop.f(x);
+            final double y = yBottom + u[1] * (yTop - yBottom);
+            final double zBottom = surfaceBottom.f(x, y);
+            final double zTop = surfaceTop.f(x, y);
+            final double z = zBottom + u[2] * (zTop - zBottom);
+            return (b - a) * (yTop - yBottom) * (zTop - zBottom) * integrand.f(x, y, z);
+        });
+    }
+
+    /**
+     * Averages the integrand over the unit hypercube once per replicate, in
+     * parallel, and combines the replicates into an estimate.
+     */
+    private Estimate sample(int dimensions, UnitIntegrand integrand) {
+        final long start = System.nanoTime();
+        final int points = QuasiMonteCarlo.points;
+        final int replicates = QuasiMonteCarlo.replicates;
+
+        if (points < 1) {
+            throw new IllegalArgumentException("There must be at least one point.");
+        }
+
+        if (replicates < 1) {
+            throw new IllegalArgumentException("There must be at least one replicate.");
+        }
+
+        // Derive every replicate's seed up front so results never depend on
+        // the order the replicates run in.
+        final SplittableRandom random = new SplittableRandom(seed);
+        final long[] seeds = new long[replicates];
+        for (int r = 0; r < replicates; r++) {
+            seeds[r] = random.nextLong();
+        }
+
+        final double[] means = IntStream.range(0, replicates).parallel().mapToDouble(r -> {
+            final SobolSequence sequence = new SobolSequence(dimensions, seeds[r]);
+            final double[] u = new double[dimensions];
+            final double[] scratch = new double[dimensions];
+
+            double sum = 0;
+            for (int i = 0; i < points; i++) {
+                sequence.next(u);
+                sum += integrand.f(u, scratch);
+            }
+
+            return sum / points;
+        }).toArray();
+
+        double mean = 0;
+        for (double m : means) {
+            mean += m;
+        }
+        mean /= replicates;
+
+        double error = Double.NaN;
+        if (replicates > 1) {
+            double variance = 0;
+            for (double m : means) {
+                variance += (m - mean) * (m - mean);
+            }
+            variance /= replicates - 1;
+            error = Math.sqrt(variance / replicates);
+        }
+
+        boolean converged = error <= Calculatte.estimateTolerance * Math.max(1, Math.abs(mean));
+        return new Estimate(mean, error, (long) points * replicates, System.nanoTime() - start, converged);
+    }
+}
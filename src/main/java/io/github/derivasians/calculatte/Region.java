@@ -0,0 +1,218 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * A region bounded by <code>functionTop</code>, <code>functionBottom</code>,
+ * x = <code>a</code>, and x = <code>b</code>, sampled once so that its area
+ * and volumes can be found any number of times without evaluating the
+ * functions again.
+ *
+ * <p>Both functions are sampled at the same <code>n</code> points as
+ * <code>Calculatte.integrate()</code>, and all results are found with Simpson's
+ * rule and rounded the same way as the equivalent methods of
+ * <code>Calculatte</code>. Unlike <code>Calculatte.revolve()</code>, though,
+ * <code>revolve()</code> never returns a negative volume.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Calculatte#crossSection(double, double, Function, Function, int)
+ * @see io.github.derivasians.calculatte.Calculatte#revolve(double, double, double, Function, Function)
+ */
+public final class Region {
+    private final Calculatte calculatte = new Calculatte();
+    private final double h;
+    private final double[] top;
+    private final double[] bottom;
+
+    // The lowest and highest points of the region, and whether the top
+    // function is at or above the bottom function everywhere (or below it
+    // everywhere).
+    private final double minimum;
+    private final double maximum;
+    private final boolean ordered;
+
+    // The integrals of top - bottom, top^2 - bottom^2 and (top - bottom)^2.
+    private final double difference;
+    private final double differenceOfSquares;
+    private final double squaredDifference;
+
+    /**
+     * Samples the region at <code>Calculatte.n</code> points.
+     *
+     * @param a The lower limit of the region.
+     * @param b The upper limit of the region.
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     */
+    public Region(double a, double b, Function functionTop, Function functionBottom) {
+        this(a, b, functionTop, functionBottom, Calculatte.n);
+    }
+
+    /**
+     * Samples the region at <code>n</code> points.
+     *
+     * @param a The lower limit of the region.
+     * @param b The upper limit of the region.
+     * @param functionTop The top function defining the bounded region.
+     * @param functionBottom The bottom function defining the bounded region.
+     * @param n The number of points to sample each function at.
+     */
+    public Region(double a, double b, Function functionTop, Function functionBottom, int n) {
+        if (n < 3) {
+            throw new IllegalArgumentException("There must be at least three points.");
+        }
+
+        this.h = (b - a) / (n - 1); // Step size.
+        this.top = new double[n];
+        this.bottom = new double[n];
+
+        top[0] = functionTop.f(a);
+        bottom[0] = functionBottom.f(a);
+        top[n - 1] = functionTop.f(b);
+        bottom[n - 1] = functionBottom.f(b);
+        for (int i = 1; i < n - 1; i++) {
+            double x = a + h * i;
+            top[i] = functionTop.f(x);
+            bottom[i] = functionBottom.f(x);
+        }
+
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        boolean above = true;
+        boolean below = true;
+        double difference = 0;
+        double differenceOfSquares = 0;
+        double squaredDifference = 0;
+
+        for (int i = 0; i < n; i++) {
+            double t = top[i];
+            double u = bottom[i];
+            minimum = Math.min(minimum, Math.min(t, u));
+            maximum = Math.max(maximum, Math.max(t, u));
+            above &= t >= u;
+            below &= t <= u;
+
+            double weight = weight(i);
+            difference += weight * (t - u);
+            differenceOfSquares += weight * (t * t - u * u);
+            squaredDifference += weight * (t - u) * (t - u);
+        }
+
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.ordered = above || below;
+        this.difference = difference * h;
+        this.differenceOfSquares = differenceOfSquares * h;
+        this.squaredDifference = squaredDifference * h;
+    }
+
+    /**
+     * Finds the Simpson's rule weight of the i-th point: 1/3 at the ends, 4/3 at odd indices and
+     * 2/3 at even indices.
+     */
+    private double weight(int i) {
+        if (i == 0 || i == top.length - 1) {
+            return 1.0 / 3.0;
+        }
+
+        return (i & 1) == 1 ? 4.0 / 3.0 : 2.0 / 3.0;
+    }
+
+    /**
+     * Finds the area between the top and bottom functions. The area is negative where the
+     * bottom function is above the top function.
+     *
+     * @return The area of the region.
+     */
+    public double area() {
+        return calculatte.round(difference, Calculatte.integrationRoundingDecimalPlaces);
+    }
+
+    /**
+     * Finds the volume of a known cross-section for any of the 5 common known cross-sections:
+     * square, equilateral triangle, isosceles triangle, right triangle, and semicircle.
+     *
+     * @param type The type of cross-section.
+     * @return The volume of the known cross-section.
+     * @see io.github.derivasians.calculatte.Calculatte#SQUARE
+     * @see io.github.derivasians.calculatte.Calculatte#EQUILATERAL_TRIANGLE
+     * @see io.github.derivasians.calculatte.Calculatte#ISOSCELES_TRIANGLE
+     * @see io.github.derivasians.calculatte.Calculatte#RIGHT_TRIANGLE
+     * @see io.github.derivasians.calculatte.Calculatte#SEMICIRCLE
+     */
+    public double crossSection(int type) {
+        double coefficient = switch (type) {
+            case Calculatte.SQUARE -> 1;
+            case Calculatte.EQUILATERAL_TRIANGLE -> Math.sqrt(3) / 4;
+            case Calculatte.ISOSCELES_TRIANGLE -> 0.75;
+            case Calculatte.RIGHT_TRIANGLE -> 0.5;
+            case Calculatte.SEMICIRCLE -> Math.PI / 8;
+            default -> {
+                final String errorMessage =
+                        String.format(
+                                "<%s> is not a valid cross-section type. Please enter a valid cross-section type (0 - 4).",
+                                type
+                        );
+                throw new IllegalArgumentException(errorMessage);
+            }
+        };
+
+        return calculatte.round(coefficient * squaredDifference, Calculatte.crossSectionsRoundingDecimalPlaces);
+    }
+
+    /**
+     * Finds the volume of revolution of the region about y = <code>axis</code>, using the washer
+     * method. Where the axis passes through the region, the washer is a disk as wide as the
+     * function furthest from the axis.
+     *
+     * <p>Note: The volume is never negative. <code>Calculatte.revolve()</code> instead integrates
+     * the top function's washer minus the bottom function's, which is negative when the bottom
+     * function is further from the axis, as when revolving about an axis above the region. Where
+     * the axis is not between the functions, the two differ only in sign.
+     *
+     * <p>When the axis is not between the functions and they do not cross, the volume is found
+     * from integrals taken when the region was sampled, in constant time. Otherwise, the samples
+     * are summed again for the axis.
+     *
+     * @param axis The y value of the axis of rotation, where 0 is about the x-axis.
+     * @return The volume of revolution.
+     */
+    public double revolve(double axis) {
+        double volume;
+        if (ordered && (axis <= minimum || axis >= maximum)) {
+            // (axis - top)^2 - (axis - bottom)^2 = top^2 - bottom^2 - 2 axis (top - bottom)
+            volume = Math.abs(differenceOfSquares - 2 * axis * difference);
+        } else {
+            double sum = 0;
+            for (int i = 0; i < top.length; i++) {
+                double topRadius = (axis - top[i]) * (axis - top[i]);
+                double bottomRadius = (axis - bottom[i]) * (axis - bottom[i]);
+                boolean between = Math.min(top[i], bottom[i]) <= axis && axis <= Math.max(top[i], bottom[i]);
+
+                // Where the axis passes through the region, the washer is a solid disk.
+                double washer = between
+                        ? Math.max(topRadius, bottomRadius)
+                        : Math.abs(topRadius - bottomRadius);
+                sum += weight(i) * washer;
+            }
+            volume = sum * h;
+        }
+
+        return calculatte.round(Math.PI * volume, Calculatte.revolutionRoundingDecimalPlaces);
+    }
+}
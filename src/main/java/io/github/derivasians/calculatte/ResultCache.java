@@ -0,0 +1,207 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A size-bounded cache of the results of whole calculations, evicting the least
+ * recently used result once full, and optionally expiring results after a time
+ * to live. Caching is opt-in: set <code>Calculatte.resultCache</code> to a cache
+ * to enable it.
+ *
+ * <p>Results are keyed by the calculation, its arguments and every setting of
+ * <code>Calculatte</code> that affects it, such as <code>n</code> and the
+ * rounding decimal places, so changing a setting never returns a stale result.
+ * Functions are compared by identity, so only calls passing the same
+ * <code>Function</code> instance share results.
+ *
+ * <p>Note: A cache is safe to share between threads. Calculations run outside
+ * of the cache's lock, so two threads missing the same key at once will both
+ * calculate it.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.Calculatte#resultCache
+ */
+public final class ResultCache {
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LinkedHashMap<List<Object>, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private static final class Entry {
+        final double value;
+        final long createdNanos;
+
+        Entry(double value, long createdNanos) {
+            this.value = value;
+            this.createdNanos = createdNanos;
+        }
+    }
+
+    /**
+     * Creates a cache whose results never expire.
+     *
+     * @param maximumSize The largest number of results kept.
+     */
+    public ResultCache(int maximumSize) {
+        this(maximumSize, null);
+    }
+
+    /**
+     * Creates a cache whose results expire <code>timeToLive</code> after they are calculated.
+     *
+     * @param maximumSize The largest number of results kept.
+     * @param timeToLive How long each result is kept, or <code>null</code> to keep results until
+     *                   they are evicted.
+     */
+    public ResultCache(int maximumSize, Duration timeToLive) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The cache must hold at least one result.");
+        }
+
+        if (timeToLive != null && (timeToLive.isNegative() || timeToLive.isZero())) {
+            throw new IllegalArgumentException("The time to live must be positive.");
+        }
+
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive == null ? Long.MAX_VALUE : saturatedNanos(timeToLive);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true); // Access order, least recent first.
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Finds the result cached for <code>key</code>, calculating and caching it if it is
+     * missing or expired.
+     *
+     * @param key The calculation, its arguments and the settings it depends on.
+     * @param calculation Calculates the result.
+     * @return The cached or calculated result.
+     */
+    double get(List<Object> key, DoubleSupplier calculation) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (!expired(entry, System.nanoTime())) {
+                    hits.increment();
+                    return entry.value;
+                }
+
+                entries.remove(key);
+            }
+        }
+
+        misses.increment();
+        double value = calculation.getAsDouble();
+        long now = System.nanoTime();
+
+        synchronized (entries) {
+            entries.put(key, new Entry(value, now));
+            Iterator<Map.Entry<List<Object>, Entry>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maximumSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+
+        return value;
+    }
+
+    private boolean expired(Entry entry, long now) {
+        return timeToLiveNanos != Long.MAX_VALUE && now - entry.createdNanos >= timeToLiveNanos;
+    }
+
+    /**
+     * Removes every cached result. Statistics are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return The number of results currently cached, including any expired results not yet
+     * removed.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return The largest number of results kept.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return The number of calculations answered from the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of calculations that had to be calculated.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of results evicted to make room for newer ones.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The fraction of calculations answered from the cache, or <code>Double.NaN</code>
+     * if there have been none.
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ResultCache[size=%s, hits=%s, misses=%s, evictions=%s]",
+                size(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * Accelerates a sequence of approximations found with steps shrinking by a
+ * constant ratio, by Richardson extrapolation. Each new approximation adds a
+ * row to the tableau, eliminating one more power of the step from the error.
+ *
+ * <p>As in Ridders' method, the entry of the tableau with the smallest
+ * estimated error is kept, and the tableau reports when further rows make the
+ * estimate worse, which happens once round-off error starts to dominate.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ */
+final class RichardsonTableau {
+    private final double ratio;
+    private final int order;
+    private double[] previous = new double[0];
+    private int rows;
+    private double value = Double.NaN;
+    private double error = Double.POSITIVE_INFINITY;
+    private boolean diverging;
+
+    /**
+     * Creates an empty tableau.
+     *
+     * @param ratio How many times smaller each step is than the last.
+     * @param order How many powers of the step each column eliminates; 1 when
+     *              the error has every power of the step, 2 when it has only
+     *              even powers.
+     */
+    RichardsonTableau(double ratio, int order) {
+        this.ratio = ratio;
+        this.order = order;
+    }
+
+    /**
+     * Adds the next approximation to the tableau.
+     *
+     * @param approximation The approximation found with the next, smaller step.
+     */
+    void add(double approximation) {
+        double[] row = new double[rows + 1];
+        row[0] = approximation;
+
+        double factor = Math.pow(ratio, order);
+        double power = factor;
+        for (int j = 1; j <= rows; j++) {
+            row[j] = (row[j - 1] * power - previous[j - 1]) / (power - 1);
+            power *= factor;
+
+            double rowError = Math.max(Math.abs(row[j] - row[j - 1]), Math.abs(row[j] - previous[j - 1]));
+            if (rowError <= error) {
+                error = rowError;
+                value = row[j];
+            }
+        }
+
+        if (rows == 0) {
+            value = approximation;
+        } else if (Math.abs(row[rows] - previous[rows - 1]) >= 2 * error) {
+            diverging = true;
+        }
+
+        previous = row;
+        rows++;
+    }
+
+    /**
+     * @return The best extrapolated value so far.
+     */
+    double getValue() {
+        return value;
+    }
+
+    /**
+     * @return The estimated absolute error of the best value so far.
+     */
+    double getError() {
+        return error;
+    }
+
+    /**
+     * @return How many approximations have been added.
+     */
+    int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return Whether the last row made the estimate worse, so adding more
+     * rows is unlikely to help.
+     */
+    boolean isDiverging() {
+        return diverging;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * Integrates bulk functions one block of points at a time, using plain loops.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.IntegrationKernel
+ */
+final class ScalarIntegrationKernel implements IntegrationKernel {
+    /**
+     * Represents how many points are evaluated at a time.
+     */
+    static final int BLOCK_SIZE = 1024;
+
+    @Override
+    public double simpson(double a, double b, int n, BulkFunction function) {
+        double h = (b - a) / (n - 1); // Step size.
+        double[] x = new double[BLOCK_SIZE];
+        double[] y = new double[BLOCK_SIZE];
+
+        // Every interior point, weighted 4/3 at odd indices and 2/3 at even ones.
+        double odd = 0;
+        double even = 0;
+        for (int start = 1; start < n - 1; start += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, n - 1 - start);
+            for (int j = 0; j < length; j++) {
+                x[j] = a + h * (start + j);
+            }
+
+            function.f(x, y, length);
+            for (int j = 0; j < length; j++) {
+                if (((start + j) & 1) == 1) {
+                    odd += y[j];
+                } else {
+                    even += y[j];
+                }
+            }
+        }
+
+        // 1/3 terms.
+        x[0] = a;
+        x[1] = b;
+        function.f(x, y, 2);
+
+        return (1.0 / 3.0 * (y[0] + y[1]) + 4.0 / 3.0 * odd + 2.0 / 3.0 * even) * h;
+    }
+
+    @Override
+    public double riemann(double a, double b, int n, double offset, BulkFunction function) {
+        double deltaX = (b - a) / n;
+        return deltaX * sum(a, deltaX, offset, n, function);
+    }
+
+    @Override
+    public double trapezoid(double a, double b, int n, BulkFunction function) {
+        double deltaX = (b - a) / n;
+        double interior = sum(a, deltaX, 1, n - 1, function);
+
+        double[] ends = new double[2];
+        function.f(new double[]{a, b}, ends, 2);
+        return deltaX * ((ends[0] + ends[1]) / 2 + interior);
+    }
+
+    /**
+     * Sums the function at a + h(i + offset) for i from 0 to n - 1.
+     */
+    private static double sum(double a, double h, double offset, int n, BulkFunction function) {
+        double[] x = new double[BLOCK_SIZE];
+        double[] y = new double[BLOCK_SIZE];
+
+        double sum = 0;
+        for (int start = 0; start < n; start += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, n - start);
+            for (int j = 0; j < length; j++) {
+                x[j] = a + h * (start + j + offset);
+            }
+
+            function.f(x, y, length);
+            for (int j = 0; j < length; j++) {
+                sum += y[j];
+            }
+        }
+
+        return sum;
+    }
+}
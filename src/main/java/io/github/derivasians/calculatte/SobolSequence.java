@@ -0,0 +1,173 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates the points of a Sobol low-discrepancy sequence in the unit
+ * hypercube, optionally scrambled with a random digital shift.
+ *
+ * <p>A scrambled sequence is seeded, so two sequences created with the same
+ * dimensions and seed always generate the same points. Scrambling with
+ * different seeds gives independent, equally distributed sequences, which is
+ * what allows <code>QuasiMonteCarlo</code> to estimate its own error.
+ *
+ * <p>Note: Direction numbers are those of Joe and Kuo, supporting up to
+ * <code>MAX_DIMENSIONS</code> dimensions and 2<sup>32</sup> points.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.QuasiMonteCarlo
+ */
+public final class SobolSequence {
+    /**
+     * The largest number of dimensions a Sobol sequence can be generated in.
+     */
+    public static final int MAX_DIMENSIONS = 16;
+
+    private static final int BITS = 32;
+    private static final double SCALE = 1.0 / (1L << BITS);
+
+    // Degree, coefficients and initial direction numbers of the primitive
+    // polynomial of each dimension after the first.
+    private static final int[] S = {1, 2, 3, 3, 4, 4, 5, 5, 5, 5, 5, 5, 6, 6, 6};
+    private static final int[] A = {0, 1, 1, 2, 1, 4, 2, 4, 7, 11, 13, 14, 1, 13, 16};
+    private static final int[][] M = {
+            {1},
+            {1, 3},
+            {1, 3, 1},
+            {1, 1, 1},
+            {1, 1, 3, 3},
+            {1, 3, 5, 13},
+            {1, 1, 5, 5, 17},
+            {1, 1, 5, 5, 5},
+            {1, 1, 7, 11, 19},
+            {1, 1, 5, 1, 1},
+            {1, 1, 1, 3, 11},
+            {1, 3, 5, 5, 31},
+            {1, 3, 3, 9, 7, 49},
+            {1, 1, 1, 15, 21, 21},
+            {1, 3, 1, 13, 27, 49}
+    };
+
+    private final int dimensions;
+    private final int[][] directions;
+    private final int[] shift;
+    private final int[] x;
+    private long index;
+
+    /**
+     * Creates an unscrambled Sobol sequence.
+     *
+     * @param dimensions The number of dimensions of each point.
+     */
+    public SobolSequence(int dimensions) {
+        this(dimensions, new int[dimensions]);
+    }
+
+    /**
+     * Creates a Sobol sequence scrambled by a random digital shift.
+     *
+     * @param dimensions The number of dimensions of each point.
+     * @param seed The seed of the random shift.
+     */
+    public SobolSequence(int dimensions, long seed) {
+        this(dimensions, randomShift(dimensions, seed));
+    }
+
+    private SobolSequence(int dimensions, int[] shift) {
+        if (dimensions < 1 || dimensions > MAX_DIMENSIONS) {
+            final String errorMessage = String.format(
+                    "<%s> is not a valid number of dimensions. Please enter a number of dimensions (1 - %s).",
+                    dimensions, MAX_DIMENSIONS
+            );
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        this.dimensions = dimensions;
+        this.directions = new int[dimensions][BITS];
+        this.shift = shift;
+        this.x = new int[dimensions];
+
+        for (int k = 0; k < BITS; k++) {
+            directions[0][k] = 1 << (BITS - 1 - k);
+        }
+
+        for (int d = 1; d < dimensions; d++) {
+            final int s = S[d - 1];
+            final int a = A[d - 1];
+            final int[] m = M[d - 1];
+            final int[] v = directions[d];
+
+            for (int k = 0; k < s; k++) {
+                v[k] = m[k] << (BITS - 1 - k);
+            }
+
+            for (int k = s; k < BITS; k++) {
+                v[k] = v[k - s] ^ (v[k - s] >>> s);
+                for (int j = 1; j < s; j++) {
+                    v[k] ^= ((a >>> (s - 1 - j)) & 1) * v[k - j];
+                }
+            }
+        }
+    }
+
+    private static int[] randomShift(int dimensions, long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final int[] shift = new int[Math.max(dimensions, 0)];
+        for (int d = 0; d < shift.length; d++) {
+            shift[d] = random.nextInt();
+        }
+
+        return shift;
+    }
+
+    /**
+     * @return The number of dimensions of each point.
+     */
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Writes the next point of the sequence into <code>point</code>. Every
+     * coordinate lies strictly between 0 and 1.
+     *
+     * @param point The array to write the point into, of length at least
+     *              <code>getDimensions()</code>.
+     */
+    public void next(double[] point) {
+        if (index >= (1L << BITS)) {
+            throw new IllegalStateException("The Sobol sequence has been exhausted.");
+        }
+
+        for (int d = 0; d < dimensions; d++) {
+            // Center each point in its cell so no coordinate is exactly 0.
+            point[d] = (Integer.toUnsignedLong(x[d] ^ shift[d]) + 0.5) * SCALE;
+        }
+
+        // Gray code order: flip the direction number of the lowest zero bit.
+        final int c = Long.numberOfTrailingZeros(~index);
+        if (c < BITS) {
+            for (int d = 0; d < dimensions; d++) {
+                x[d] ^= directions[d][c];
+            }
+        }
+        index++;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+/**
+ * The solution of an initial value problem, found by <code>DormandPrince</code>.
+ *
+ * <p>A solution is a <code>Function</code> of its first component, so it can be
+ * passed straight to <code>Calculatte.integrate()</code>,
+ * <code>Calculatte.limit()</code> and the rest. Between the steps taken, the
+ * solution is interpolated with the method's continuous fourth order extension,
+ * without evaluating the differential equation again.
+ *
+ * <p>Note: Outside the interval solved over, the solution is extrapolated from
+ * the nearest step, which quickly becomes inaccurate.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.DormandPrince
+ */
+public final class Solution implements Function {
+    private final double x0;
+    private final double[] y0;
+    private final double[] starts;
+    private final double[] widths;
+    private final double[] coefficients;
+    private final int steps;
+    private final int rejectedSteps;
+    private final long evaluations;
+
+    Solution(double x0, double[] y0, double[] starts, double[] widths, double[] coefficients, int steps,
+             int rejectedSteps, long evaluations) {
+        this.x0 = x0;
+        this.y0 = y0;
+        this.starts = starts;
+        this.widths = widths;
+        this.coefficients = coefficients;
+        this.steps = steps;
+        this.rejectedSteps = rejectedSteps;
+        this.evaluations = evaluations;
+    }
+
+    /**
+     * Calculates the first component of the solution at x.
+     *
+     * @param x The x-value to find the solution at.
+     * @return The first component of y at x.
+     */
+    @Override
+    public double f(double x) {
+        return f(x, 0);
+    }
+
+    /**
+     * Calculates one component of the solution at x.
+     *
+     * @param x The x-value to find the solution at.
+     * @param component The index of the component of y.
+     * @return The component of y at x.
+     */
+    public double f(double x, int component) {
+        if (component < 0 || component >= y0.length) {
+            final String errorMessage = String.format(
+                    "<%s> is not a valid component. Please enter a valid component (0 - %s).",
+                    component, y0.length - 1
+            );
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        if (steps == 0) {
+            return y0[component];
+        }
+
+        int step = step(x);
+        int dimensions = y0.length;
+        int offset = step * 5 * dimensions + component;
+        double theta = (x - starts[step]) / widths[step];
+        double theta1 = 1 - theta;
+
+        return coefficients[offset] + theta * (coefficients[offset + dimensions]
+                + theta1 * (coefficients[offset + 2 * dimensions]
+                + theta * (coefficients[offset + 3 * dimensions]
+                + theta1 * coefficients[offset + 4 * dimensions])));
+    }
+
+    /**
+     * Finds one component of the solution, as a function of x.
+     *
+     * @param component The index of the component of y.
+     * @return The component of y as a function of x.
+     */
+    public Function component(int component) {
+        f(x0, component); // Validate the component.
+        return x -> f(x, component);
+    }
+
+    /**
+     * Finds the index of the step containing x, or the nearest step if none does.
+     */
+    private int step(double x) {
+        double direction = Math.signum(widths[0]);
+        int low = 0;
+        int high = steps - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (direction * (x - starts[middle]) >= 0) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * @return The number of dimensions, or components, of the solution.
+     */
+    public int getDimensions() {
+        return y0.length;
+    }
+
+    /**
+     * @return The number of steps accepted.
+     */
+    public int getSteps() {
+        return steps;
+    }
+
+    /**
+     * @return The number of steps rejected for being too inaccurate and retried with a smaller
+     * step size.
+     */
+    public int getRejectedSteps() {
+        return rejectedSteps;
+    }
+
+    /**
+     * @return The number of times the differential equation was evaluated.
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import java.util.Arrays;
+
+/**
+ * A piecewise cubic function interpolating tabulated points, so that data can
+ * be used anywhere a <code>Function</code> can.
+ *
+ * <p>Three kinds of spline can be created: natural and clamped cubic splines,
+ * which have continuous second derivatives, and monotone (PCHIP) splines, which
+ * never overshoot the data. Between the first and last points, each piece is
+ * the cubic through its two points with the slopes the spline chose there.
+ * Outside them, the first or last piece is extended.
+ *
+ * <p>Finding the piece containing x takes constant time when the points are
+ * evenly spaced, and a binary search otherwise. <code>Calculatte.integrate()</code>
+ * and <code>Calculatte.derivate()</code> use the exact integral and derivative
+ * of the spline instead of sampling it.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ */
+public final class Spline implements Function {
+    private final double[] x;
+    private final double[] y;
+    private final double[] slopes;
+
+    // Quadratic and cubic coefficients of each piece, in powers of x - x[i].
+    private final double[] c2;
+    private final double[] c3;
+
+    // The integral from x[0] to x[i].
+    private final double[] cumulative;
+
+    private final boolean uniform;
+    private final double inverseSpacing;
+
+    private Spline(double[] x, double[] y, double[] slopes) {
+        this.x = x;
+        this.y = y;
+        this.slopes = slopes;
+
+        int pieces = x.length - 1;
+        this.c2 = new double[pieces];
+        this.c3 = new double[pieces];
+        this.cumulative = new double[x.length];
+        for (int i = 0; i < pieces; i++) {
+            double h = x[i + 1] - x[i];
+            double s = (y[i + 1] - y[i]) / h;
+            c2[i] = (3 * s - 2 * slopes[i] - slopes[i + 1]) / h;
+            c3[i] = (slopes[i] + slopes[i + 1] - 2 * s) / (h * h);
+            cumulative[i + 1] = cumulative[i] + antiderivative(i, h);
+        }
+
+        double spacing = (x[pieces] - x[0]) / pieces;
+        boolean uniform = true;
+        for (int i = 0; i < pieces && uniform; i++) {
+            uniform = Math.abs((x[i + 1] - x[i]) - spacing) <= 0.000000001 * spacing;
+        }
+        this.uniform = uniform;
+        this.inverseSpacing = 1 / spacing;
+    }
+
+    /**
+     * Creates a natural cubic spline, whose second derivative is 0 at the first and last points.
+     *
+     * @param x The x-values of the points, in strictly increasing order.
+     * @param y The y-values of the points.
+     * @return The spline interpolating the points.
+     */
+    public static Spline natural(double[] x, double[] y) {
+        check(x, y);
+        return new Spline(x.clone(), y.clone(), cubicSlopes(x, y, Double.NaN, Double.NaN));
+    }
+
+    /**
+     * Creates a clamped cubic spline, with the given slopes at the first and last points.
+     *
+     * @param x The x-values of the points, in strictly increasing order.
+     * @param y The y-values of the points.
+     * @param startSlope The slope of the spline at the first point.
+     * @param endSlope The slope of the spline at the last point.
+     * @return The spline interpolating the points.
+     */
+    public static Spline clamped(double[] x, double[] y, double startSlope, double endSlope) {
+        check(x, y);
+        if (Double.isNaN(startSlope) || Double.isNaN(endSlope)) {
+            throw new IllegalArgumentException("The slopes at the first and last points must be numbers.");
+        }
+
+        return new Spline(x.clone(), y.clone(), cubicSlopes(x, y, startSlope, endSlope));
+    }
+
+    /**
+     * Creates a monotone piecewise cubic Hermite interpolant (PCHIP), which is monotone wherever
+     * the points are, and never overshoots them. Its second derivative may be discontinuous at
+     * the points.
+     *
+     * @param x The x-values of the points, in strictly increasing order.
+     * @param y The y-values of the points.
+     * @return The spline interpolating the points.
+     */
+    public static Spline monotone(double[] x, double[] y) {
+        check(x, y);
+        int n = x.length;
+        double[] slopes = new double[n];
+        if (n == 2) {
+            double s = (y[1] - y[0]) / (x[1] - x[0]);
+            slopes[0] = s;
+            slopes[1] = s;
+            return new Spline(x.clone(), y.clone(), slopes);
+        }
+
+        // Weighted harmonic mean of the neighbouring secants, or 0 at a local extremum.
+        for (int i = 1; i < n - 1; i++) {
+            double h0 = x[i] - x[i - 1];
+            double h1 = x[i + 1] - x[i];
+            double s0 = (y[i] - y[i - 1]) / h0;
+            double s1 = (y[i + 1] - y[i]) / h1;
+            if (s0 * s1 <= 0) {
+                slopes[i] = 0;
+            } else {
+                double w0 = 2 * h1 + h0;
+                double w1 = h1 + 2 * h0;
+                slopes[i] = (w0 + w1) / (w0 / s0 + w1 / s1);
+            }
+        }
+
+        slopes[0] = endSlope(x[1] - x[0], x[2] - x[1],
+                (y[1] - y[0]) / (x[1] - x[0]), (y[2] - y[1]) / (x[2] - x[1]));
+        slopes[n - 1] = endSlope(x[n - 1] - x[n - 2], x[n - 2] - x[n - 3],
+                (y[n - 1] - y[n - 2]) / (x[n - 1] - x[n - 2]), (y[n - 2] - y[n - 3]) / (x[n - 2] - x[n - 3]));
+        return new Spline(x.clone(), y.clone(), slopes);
+    }
+
+    /**
+     * Finds the slope of a monotone spline at an end from a three point estimate, limited so the
+     * spline stays monotone.
+     *
+     * @param h0 The width of the piece at the end.
+     * @param h1 The width of the piece next to it.
+     * @param s0 The secant slope of the piece at the end.
+     * @param s1 The secant slope of the piece next to it.
+     */
+    private static double endSlope(double h0, double h1, double s0, double s1) {
+        double slope = ((2 * h0 + h1) * s0 - h0 * s1) / (h0 + h1);
+        if (Math.signum(slope) != Math.signum(s0)) {
+            return 0;
+        }
+
+        if (Math.signum(s0) != Math.signum(s1) && Math.abs(slope) > 3 * Math.abs(s0)) {
+            return 3 * s0;
+        }
+
+        return slope;
+    }
+
+    /**
+     * Solves for the slopes of a cubic spline, which make its second derivative continuous.
+     * Natural ends are used where the given end slope is <code>Double.NaN</code>.
+     */
+    private static double[] cubicSlopes(double[] x, double[] y, double startSlope, double endSlope) {
+        int n = x.length;
+        double[] lower = new double[n];
+        double[] diagonal = new double[n];
+        double[] upper = new double[n];
+        double[] rhs = new double[n];
+
+        double h0 = x[1] - x[0];
+        double s0 = (y[1] - y[0]) / h0;
+        if (Double.isNaN(startSlope)) {
+            diagonal[0] = 2;
+            upper[0] = 1;
+            rhs[0] = 3 * s0;
+        } else {
+            diagonal[0] = 1;
+            rhs[0] = startSlope;
+        }
+
+        for (int i = 1; i < n - 1; i++) {
+            double hPrevious = x[i] - x[i - 1];
+            double h = x[i + 1] - x[i];
+            double sPrevious = (y[i] - y[i - 1]) / hPrevious;
+            double s = (y[i + 1] - y[i]) / h;
+            lower[i] = h;
+            diagonal[i] = 2 * (hPrevious + h);
+            upper[i] = hPrevious;
+            rhs[i] = 3 * (h * sPrevious + hPrevious * s);
+        }
+
+        double hLast = x[n - 1] - x[n - 2];
+        double sLast = (y[n - 1] - y[n - 2]) / hLast;
+        if (Double.isNaN(endSlope)) {
+            lower[n - 1] = 1;
+            diagonal[n - 1] = 2;
+            rhs[n - 1] = 3 * sLast;
+        } else {
+            diagonal[n - 1] = 1;
+            rhs[n - 1] = endSlope;
+        }
+
+        // Thomas algorithm for the tridiagonal system.
+        for (int i = 1; i < n; i++) {
+            double factor = lower[i] / diagonal[i - 1];
+            diagonal[i] -= factor * upper[i - 1];
+            rhs[i] -= factor * rhs[i - 1];
+        }
+
+        double[] slopes = new double[n];
+        slopes[n - 1] = rhs[n - 1] / diagonal[n - 1];
+        for (int i = n - 2; i >= 0; i--) {
+            slopes[i] = (rhs[i] - upper[i] * slopes[i + 1]) / diagonal[i];
+        }
+
+        return slopes;
+    }
+
+    private static void check(double[] x, double[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("There must be as many x-values as y-values.");
+        }
+
+        if (x.length < 2) {
+            throw new IllegalArgumentException("There must be at least two points.");
+        }
+
+        for (int i = 1; i < x.length; i++) {
+            if (!(x[i] > x[i - 1])) {
+                throw new IllegalArgumentException("The x-values must be strictly increasing.");
+            }
+        }
+    }
+
+    /**
+     * Finds the index of the piece containing t, or the first or last piece when t is outside
+     * the points.
+     */
+    private int piece(double t) {
+        int last = x.length - 2;
+        int i;
+        if (uniform) {
+            double index = (t - x[0]) * inverseSpacing;
+            i = index <= 0 ? 0 : index >= last ? last : (int) index;
+
+            // The points are only uniform to within rounding, so the index may be one piece off.
+            if (i < last && t >= x[i + 1]) {
+                i++;
+            } else if (i > 0 && t < x[i]) {
+                i--;
+            }
+        } else {
+            i = Arrays.binarySearch(x, t);
+            i = i >= 0 ? i : -i - 2;
+        }
+
+        return Math.max(0, Math.min(last, i));
+    }
+
+    /**
+     * Finds the integral of piece i from x[i] to x[i] + t.
+     */
+    private double antiderivative(int i, double t) {
+        return t * (y[i] + t * (slopes[i] / 2 + t * (c2[i] / 3 + t * c3[i] / 4)));
+    }
+
+    /**
+     * Calculates the y-value of the spline at x.
+     *
+     * @param x The x-value to find the y-value for.
+     * @return The y-value for the given x-value.
+     */
+    @Override
+    public double f(double x) {
+        int i = piece(x);
+        double t = x - this.x[i];
+        return y[i] + t * (slopes[i] + t * (c2[i] + t * c3[i]));
+    }
+
+    /**
+     * Finds the exact derivative of the spline at x.
+     *
+     * @param x The point on the spline to find the derivative.
+     * @return The derivative of the spline at x.
+     */
+    public double derivative(double x) {
+        int i = piece(x);
+        double t = x - this.x[i];
+        return slopes[i] + t * (2 * c2[i] + t * 3 * c3[i]);
+    }
+
+    /**
+     * Finds the exact integral of the spline from a to b.
+     *
+     * @param a The lower limit of integration.
+     * @param b The upper limit of integration.
+     * @return The area under the spline from a to b.
+     */
+    public double integrate(double a, double b) {
+        return integral(b) - integral(a);
+    }
+
+    /**
+     * Finds the integral of the spline from the first point to t.
+     */
+    private double integral(double t) {
+        int i = piece(t);
+        return cumulative[i] + antiderivative(i, t - x[i]);
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+/**
+ * Contains methods to sample functions on dense, evenly spaced grids: into
+ * arrays, straight to binary or CSV files, or downsampled for plotting.
+ *
+ * <p>Grids of <code>points</code> points run from x = <code>a</code> to x =
+ * <code>b</code> inclusive, so the i-th point is at a + i(b - a) / (points - 1).
+ * Points are evaluated in parallel, <code>chunkSize</code> at a time, so
+ * functions must be safe to call from multiple threads.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ */
+public final class Tabulation {
+    /**
+     * Represents how many points are evaluated and written at a time when
+     * writing to a file. At most two chunks are held in memory at once.
+     */
+    public static int chunkSize = 1 << 16;
+
+    /**
+     * Represents how many points each thread evaluates at a time.
+     */
+    private static final int BLOCK_SIZE = 4096;
+
+    /**
+     * Writes a chunk of evaluated points to a file channel.
+     */
+    private interface ChannelWriter {
+        void write(FileChannel channel, long start, double[] y, int length) throws IOException;
+    }
+
+    /**
+     * Finds the y-values of the function at every point of the grid.
+     *
+     * @param a The first x-value of the grid.
+     * @param b The last x-value of the grid.
+     * @param points The number of points in the grid.
+     * @param function The function to sample.
+     * @return The y-value at each point of the grid.
+     */
+    public double[] tabulate(double a, double b, int points, Function function) {
+        checkPoints(points);
+        double[] y = new double[points];
+        fill(a, b, points, 0, y, points, function);
+        return y;
+    }
+
+    /**
+     * Finds the x-values of every point of the grid.
+     *
+     * @param a The first x-value of the grid.
+     * @param b The last x-value of the grid.
+     * @param points The number of points in the grid.
+     * @return The x-value of each point of the grid.
+     */
+    public double[] grid(double a, double b, int points) {
+        checkPoints(points);
+        double[] x = new double[points];
+        for (int i = 0; i < points; i++) {
+            x[i] = x(a, b, points, i);
+        }
+
+        return x;
+    }
+
+    /**
+     * Samples the function on the grid and writes every point to a binary file, as pairs of
+     * little-endian IEEE 754 doubles: x, then y. The file is replaced if it exists.
+     *
+     * @param path The file to write.
+     * @param a The first x-value of the grid.
+     * @param b The last x-value of the grid.
+     * @param points The number of points in the grid.
+     * @param function The function to sample.
+     */
+    public void writeBinary(Path path, double a, double b, long points, Function function) {
+        int chunkSize = Math.max(1, Tabulation.chunkSize);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(2 * Double.BYTES * chunkSize).order(ByteOrder.LITTLE_ENDIAN);
+        write(path, a, b, points, chunkSize, function, (channel, start, y, length) -> {
+            buffer.clear();
+            for (int i = 0; i < length; i++) {
+                buffer.putDouble(x(a, b, points, start + i));
+                buffer.putDouble(y[i]);
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * Samples the function on the grid and writes every point to a CSV file, with a header row
+     * of <code>x,y</code>. The file is replaced if it exists.
+     *
+     * @param path The file to write.
+     * @param a The first x-value of the grid.
+     * @param b The last x-value of the grid.
+     * @param points The number of points in the grid.
+     * @param function The function to sample.
+     */
+    public void writeCsv(Path path, double a, double b, long points, Function function) {
+        StringBuilder text = new StringBuilder();
+        write(path, a, b, points, Math.max(1, chunkSize), function, (channel, start, y, length) -> {
+            text.setLength(0);
+            if (start == 0) {
+                text.append("x,y\n");
+            }
+
+            for (int i = 0; i < length; i++) {
+                text.append(x(a, b, points, start + i)).append(',').append(y[i]).append('\n');
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * Streams the grid to a file one chunk at a time, evaluating the next chunk while the
+     * current one is written.
+     */
+    private void write(Path path, double a, double b, long points, int chunkSize, Function function,
+                       ChannelWriter writer) {
+        checkPoints(points);
+        long chunks = (points + chunkSize - 1) / chunkSize;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CompletableFuture<double[]> next = evaluateAsync(a, b, points, 0, chunkSize, function);
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                double[] y = join(next);
+                if (chunk + 1 < chunks) {
+                    next = evaluateAsync(a, b, points, (chunk + 1) * chunkSize, chunkSize, function);
+                }
+
+                long start = chunk * chunkSize;
+                writer.write(channel, start, y, (int) Math.min(chunkSize, points - start));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CompletableFuture<double[]> evaluateAsync(double a, double b, long points, long start, int chunkSize,
+                                                      Function function) {
+        int length = (int) Math.min(chunkSize, points - start);
+        return CompletableFuture.supplyAsync(() -> {
+            double[] y = new double[length];
+            fill(a, b, points, start, y, length, function);
+            return y;
+        });
+    }
+
+    private static double[] join(CompletableFuture<double[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Downsamples points with the Largest-Triangle-Three-Buckets algorithm, which keeps the
+     * points that best preserve the shape of the curve when plotted. The first and last points
+     * are always kept.
+     *
+     * @param x The x-values of the points, in increasing order.
+     * @param y The y-values of the points.
+     * @param threshold The number of points to keep.
+     * @return The x-values and y-values of the points kept, as <code>{x, y}</code>.
+     */
+    public double[][] downsample(double[] x, double[] y, int threshold) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("There must be as many x-values as y-values.");
+        }
+
+        int points = x.length;
+        if (threshold >= points || threshold < 3) {
+            return new double[][]{x.clone(), y.clone()};
+        }
+
+        double[] sampledX = new double[threshold];
+        double[] sampledY = new double[threshold];
+        sampledX[0] = x[0];
+        sampledY[0] = y[0];
+
+        int selected = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // The average of the next bucket is the third corner of each triangle.
+            int nextStart = bucketStart(bucket + 1, points, threshold);
+            int nextEnd = bucketStart(bucket + 2, points, threshold);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x[i];
+                averageY += y[i];
+            }
+            averageX /= nextEnd - nextStart;
+            averageY /= nextEnd - nextStart;
+
+            int best = largestTriangle(x[selected], y[selected], averageX, averageY, x, y,
+                    bucketStart(bucket, points, threshold), nextStart);
+            sampledX[bucket + 1] = x[best];
+            sampledY[bucket + 1] = y[best];
+            selected = best;
+        }
+
+        sampledX[threshold - 1] = x[points - 1];
+        sampledY[threshold - 1] = y[points - 1];
+        return new double[][]{sampledX, sampledY};
+    }
+
+    /**
+     * Samples the function on the grid and downsamples it with the Largest-Triangle-Three-Buckets
+     * algorithm, scanning each bucket <code>chunkSize</code> points at a time. Only the first
+     * chunk of each of two buckets is held in memory, so buckets of up to
+     * <code>chunkSize</code> points are evaluated exactly once, and the rest of larger buckets
+     * twice: once to average them, and once to choose from them.
+     *
+     * @param a The first x-value of the grid.
+     * @param b The last x-value of the grid.
+     * @param points The number of points in the grid.
+     * @param function The function to sample.
+     * @param threshold The number of points to keep.
+     * @return The x-values and y-values of the points kept, as <code>{x, y}</code>.
+     * @see io.github.derivasians.calculatte.Tabulation#downsample(double[], double[], int)
+     */
+    public double[][] downsample(double a, double b, long points, Function function, int threshold) {
+        checkPoints(points);
+        if (threshold >= points || threshold < 3) {
+            int size = (int) points;
+            return new double[][]{grid(a, b, size), tabulate(a, b, size, function)};
+        }
+
+        int chunkSize = Math.max(1, Tabulation.chunkSize);
+        double[] sampledX = new double[threshold];
+        double[] sampledY = new double[threshold];
+        sampledX[0] = a;
+        sampledY[0] = function.f(a);
+
+        // The bucket points are being chosen from, and the first chunk of it.
+        long currentStart = bucketStart(0, points, threshold);
+        long currentEnd = bucketStart(1, points, threshold);
+        double[] current = evaluate(a, b, points, currentStart, Math.min(currentEnd, currentStart + chunkSize),
+                function);
+        double selectedX = sampledX[0];
+        double selectedY = sampledY[0];
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            long nextStart = currentEnd;
+            long nextEnd = bucketStart(bucket + 2, points, threshold);
+            double[] next = evaluate(a, b, points, nextStart, Math.min(nextEnd, nextStart + chunkSize), function);
+
+            double averageX = 0;
+            double averageY = 0;
+            double[] y = next;
+            for (long from = nextStart; from < nextEnd; from += chunkSize) {
+                if (from > nextStart) {
+                    y = evaluate(a, b, points, from, Math.min(nextEnd, from + chunkSize), function);
+                }
+
+                for (int i = 0; i < y.length; i++) {
+                    averageX += x(a, b, points, from + i);
+                    averageY += y[i];
+                }
+            }
+            averageX /= nextEnd - nextStart;
+            averageY /= nextEnd - nextStart;
+
+            // Find the point of the current bucket making the largest triangle.
+            double largestArea = -1;
+            long best = currentStart;
+            double bestY = current[0];
+            y = current;
+            for (long from = currentStart; from < currentEnd; from += chunkSize) {
+                if (from > currentStart) {
+                    y = evaluate(a, b, points, from, Math.min(currentEnd, from + chunkSize), function);
+                }
+
+                for (int i = 0; i < y.length; i++) {
+                    double area = triangleArea(selectedX, selectedY, averageX, averageY,
+                            x(a, b, points, from + i), y[i]);
+                    if (area > largestArea) {
+                        largestArea = area;
+                        best = from + i;
+                        bestY = y[i];
+                    }
+                }
+            }
+
+            selectedX = x(a, b, points, best);
+            selectedY = bestY;
+            sampledX[bucket + 1] = selectedX;
+            sampledY[bucket + 1] = selectedY;
+
+            current = next;
+            currentStart = nextStart;
+            currentEnd = nextEnd;
+        }
+
+        sampledX[threshold - 1] = b;
+        sampledY[threshold - 1] = current[current.length - 1];
+        return new double[][]{sampledX, sampledY};
+    }
+
+    /**
+     * Finds the index of the first point of a bucket. Bucket 0 starts at the second point, and
+     * bucket threshold - 2 holds only the last point.
+     */
+    private static int bucketStart(int bucket, int points, int threshold) {
+        return (int) bucketStart(bucket, (long) points, threshold);
+    }
+
+    private static long bucketStart(int bucket, long points, int threshold) {
+        return Math.min(bucket * (points - 2) / (threshold - 2) + 1, points);
+    }
+
+    /**
+     * Finds the index of the point from start to end making the largest triangle with (ax, ay)
+     * and (cx, cy).
+     */
+    private static int largestTriangle(double ax, double ay, double cx, double cy, double[] x, double[] y,
+                                       int start, int end) {
+        double largestArea = -1;
+        int best = start;
+        for (int i = start; i < end; i++) {
+            double area = triangleArea(ax, ay, cx, cy, x[i], y[i]);
+            if (area > largestArea) {
+                largestArea = area;
+                best = i;
+            }
+        }
+
+        return best;
+    }
+
+    private static double triangleArea(double ax, double ay, double cx, double cy, double bx, double by) {
+        return Math.abs((ax - cx) * (by - ay) - (ax - bx) * (cy - ay)) / 2;
+    }
+
+    private double[] evaluate(double a, double b, long points, long start, long end, Function function) {
+        double[] y = new double[(int) (end - start)];
+        fill(a, b, points, start, y, y.length, function);
+        return y;
+    }
+
+    /**
+     * Evaluates <code>length</code> points of the grid starting at index <code>start</code>, in
+     * parallel blocks.
+     */
+    private void fill(double a, double b, long points, long start, double[] y, int length, Function function) {
+        int blocks = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            int from = block * BLOCK_SIZE;
+            int to = Math.min(from + BLOCK_SIZE, length);
+            for (int i = from; i < to; i++) {
+                y[i] = function.f(x(a, b, points, start + i));
+            }
+        });
+    }
+
+    /**
+     * Finds the x-value of the i-th point of the grid. The last point is exactly b.
+     */
+    private static double x(double a, double b, long points, long i) {
+        if (i == points - 1) {
+            return b;
+        }
+
+        return a + (b - a) * ((double) i / (points - 1));
+    }
+
+    private static void checkPoints(long points) {
+        if (points < 2) {
+            throw new IllegalArgumentException("There must be at least two points.");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import java.util.Arrays;
+
+/**
+ * Accelerates the convergence of a sequence with Wynn's epsilon algorithm.
+ * Each new term adds an anti-diagonal to the epsilon table, whose even columns
+ * are the Shanks transformations of the sequence.
+ *
+ * <p>Unlike <code>RichardsonTableau</code>, the epsilon algorithm needs no
+ * knowledge of how the error shrinks, which suits sequences whose error falls
+ * geometrically by an unknown ratio, such as the square root of the step.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.RichardsonTableau
+ */
+final class WynnEpsilon {
+    private double[] diagonal = new double[0];
+    private double value = Double.NaN;
+    private double previousValue = Double.NaN;
+    private double error = Double.POSITIVE_INFINITY;
+    private int terms;
+
+    /**
+     * Adds the next term of the sequence to the table.
+     *
+     * @param term The next term of the sequence.
+     */
+    void add(double term) {
+        double[] next = new double[diagonal.length + 1];
+        next[0] = term;
+
+        int length = 1;
+        for (int k = 0; k < diagonal.length; k++) {
+            double delta = next[k] - diagonal[k];
+            if (delta == 0 || !Double.isFinite(delta)) {
+                break; // The table cannot be continued past an exact or undefined entry.
+            }
+
+            next[k + 1] = (k == 0 ? 0 : diagonal[k - 1]) + 1 / delta;
+            length++;
+        }
+
+        // The last entry in an even column is the best estimate.
+        double estimate = next[(length - 1) & ~1];
+        if (terms >= 2) {
+            error = Math.abs(estimate - value) + Math.abs(value - previousValue);
+        } else if (terms == 1) {
+            error = Math.abs(estimate - value);
+        }
+
+        previousValue = value;
+        value = estimate;
+        diagonal = Arrays.copyOf(next, length);
+        terms++;
+    }
+
+    /**
+     * @return The best accelerated value so far.
+     */
+    double getValue() {
+        return value;
+    }
+
+    /**
+     * @return The estimated absolute error of the best value so far.
+     */
+    double getError() {
+        return error;
+    }
+
+    /**
+     * @return How many terms have been added.
+     */
+    int getTerms() {
+        return terms;
+    }
+}
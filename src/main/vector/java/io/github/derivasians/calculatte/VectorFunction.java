@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The VectorFunction interface for functions written with the Vector API, which
+ * find the y-values of a whole vector of x-values at once. For example, f(x) =
+ * x<sup>2</sup> + 2x can be written as <code>x -&gt; x.mul(x).add(x.mul(2))</code>.
+ *
+ * <p>Note: This interface requires the <code>jdk.incubator.vector</code> module
+ * to be added to the JVM. Without it, bulk functions still run, using the
+ * scalar kernels.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.BulkFunction
+ */
+public interface VectorFunction extends BulkFunction {
+    /**
+     * The shape of every vector passed to and returned from a vector function.
+     */
+    VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Calculates the y-values for a vector of x-values.
+     *
+     * @param x The x-values to find the y-values for.
+     * @return The y-values for the given x-values.
+     */
+    DoubleVector f(DoubleVector x);
+
+    @Override
+    default void f(double[] x, double[] y, int length) {
+        for (int i = 0; i < length; i += SPECIES.length()) {
+            VectorMask<Double> mask = SPECIES.indexInRange(i, length);
+            f(DoubleVector.fromArray(SPECIES, x, i, mask)).intoArray(y, i, mask);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+
+/**
+ * Integrates bulk functions using the Vector API, generating, evaluating and
+ * summing a whole vector of points at a time. Vector functions are evaluated
+ * directly on the generated vectors; other bulk functions are evaluated one
+ * block at a time.
+ *
+ * <p>Note: This class is loaded reflectively by <code>IntegrationKernel</code>,
+ * so that Calculatte still runs on JVMs without the
+ * <code>jdk.incubator.vector</code> module.
+ *
+ * @author <a href="mailto:okashita.matthew@gmail.com">Matthew Okashita</a>
+ * @version 0.2.0
+ * @see io.github.derivasians.calculatte.IntegrationKernel
+ */
+final class VectorIntegrationKernel implements IntegrationKernel {
+    private static final int LANES = VectorFunction.SPECIES.length();
+
+    /**
+     * Represents how many points of a bulk function are evaluated at a time.
+     * Always a multiple of the number of lanes.
+     */
+    private static final int BLOCK_SIZE = Math.max(ScalarIntegrationKernel.BLOCK_SIZE, LANES);
+
+    // The index of each lane, and the Simpson's rule weights of each lane when
+    // the first lane has an even index (0) and an odd one (1). The two differ
+    // only when the number of lanes is odd, as for 64-bit vectors.
+    private final DoubleVector iota;
+    private final DoubleVector evenSimpsonWeights;
+    private final DoubleVector oddSimpsonWeights;
+    private final DoubleVector ones = DoubleVector.broadcast(VectorFunction.SPECIES, 1);
+
+    VectorIntegrationKernel() {
+        double[] iota = new double[LANES];
+        for (int j = 0; j < LANES; j++) {
+            iota[j] = j;
+        }
+
+        this.iota = DoubleVector.fromArray(VectorFunction.SPECIES, iota, 0);
+        this.evenSimpsonWeights = simpsonWeights(0);
+        this.oddSimpsonWeights = simpsonWeights(1);
+    }
+
+    /**
+     * Finds the Simpson's rule weight of each lane when the first lane's index has the given parity.
+     */
+    private static DoubleVector simpsonWeights(int parity) {
+        double[] weights = new double[LANES];
+        for (int j = 0; j < LANES; j++) {
+            weights[j] = ((parity + j) & 1) == 1 ? 4 : 2;
+        }
+
+        return DoubleVector.fromArray(VectorFunction.SPECIES, weights, 0);
+    }
+
+    @Override
+    public double simpson(double a, double b, int n, BulkFunction function) {
+        double h = (b - a) / (n - 1); // Step size.
+
+        // Weight every point 4 at odd indices and 2 at even ones, ends included.
+        DoubleVector sum = sum(a, h, 0, n, evenSimpsonWeights, oddSimpsonWeights, function);
+
+        // Correct the ends to a weight of 1.
+        double[] ends = new double[2];
+        function.f(new double[]{a, b}, ends, 2);
+        double lastWeight = ((n - 1) & 1) == 1 ? 4 : 2;
+        double total = sum.reduceLanes(VectorOperators.ADD) - ends[0] - (lastWeight - 1) * ends[1];
+
+        return total / 3.0 * h;
+    }
+
+    @Override
+    public double riemann(double a, double b, int n, double offset, BulkFunction function) {
+        double deltaX = (b - a) / n;
+        DoubleVector sum = sum(a, deltaX, offset, n, ones, ones, function);
+        return deltaX * sum.reduceLanes(VectorOperators.ADD);
+    }
+
+    @Override
+    public double trapezoid(double a, double b, int n, BulkFunction function) {
+        double deltaX = (b - a) / n;
+        DoubleVector interior = sum(a, deltaX, 1, n - 1, ones, ones, function);
+
+        double[] ends = new double[2];
+        function.f(new double[]{a, b}, ends, 2);
+        return deltaX * ((ends[0] + ends[1]) / 2 + interior.reduceLanes(VectorOperators.ADD));
+    }
+
+    /**
+     * Sums the function at a + h(i + offset) for i from 0 to n - 1, weighting each point by the
+     * lane it falls in of <code>evenWeights</code> when the first lane's i is even, or of
+     * <code>oddWeights</code> when it is odd. Returns the lane-wise sums.
+     */
+    private DoubleVector sum(double a, double h, double offset, int n, DoubleVector evenWeights,
+                             DoubleVector oddWeights, BulkFunction function) {
+        DoubleVector zero = DoubleVector.zero(VectorFunction.SPECIES);
+        DoubleVector sum = zero;
+
+        if (function instanceof VectorFunction vectorFunction) {
+            for (int i = 0; i < n; i += LANES) {
+                VectorMask<Double> mask = VectorFunction.SPECIES.indexInRange(i, n);
+                DoubleVector x = iota.add(i + offset).mul(h).add(a);
+                DoubleVector y = zero.blend(vectorFunction.f(x), mask);
+                sum = y.fma((i & 1) == 0 ? evenWeights : oddWeights, sum);
+            }
+
+            return sum;
+        }
+
+        double[] x = new double[BLOCK_SIZE];
+        double[] y = new double[BLOCK_SIZE];
+        for (int start = 0; start < n; start += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, n - start);
+            for (int j = 0; j < length; j += LANES) {
+                iota.add(start + j + offset).mul(h).add(a).intoArray(x, j);
+            }
+
+            function.f(x, y, length);
+            for (int j = 0; j < length; j += LANES) {
+                VectorMask<Double> mask = VectorFunction.SPECIES.indexInRange(j, length);
+                DoubleVector weights = ((start + j) & 1) == 0 ? evenWeights : oddWeights;
+                sum = DoubleVector.fromArray(VectorFunction.SPECIES, y, j, mask).fma(weights, sum);
+            }
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+public class BatchTest {
+    Calculatte c = new Calculatte();
+
+    @Test
+    @DisplayName("Operations")
+    public void operations() {
+        Assertions.assertEquals("4.0", Batch.execute(c, "integrate 0 2 2 * x"));
+        Assertions.assertEquals(Double.toString(c.derivate(1, Math::sin)), Batch.execute(c, "derivate 1 sin"));
+        Assertions.assertEquals(Double.toString(c.polarArea(0, 2 * Math.PI, x -> 1)),
+                Batch.execute(c, "polarArea 0 2*pi 1"));
+        Assertions.assertEquals(Double.toString(c.revolve(0, 2, 0, x -> x * x, x -> 0)),
+                Batch.execute(c, "revolve 0 2 0 x^2 0"));
+        Assertions.assertEquals(Double.toString(c.crossSection(0, 1, x -> x, x -> 0, Calculatte.SEMICIRCLE)),
+                Batch.execute(c, "crossSection 0 1 semicircle x 0"));
+        Assertions.assertEquals(Double.toString(c.leftRiemannSum(0, 1, x -> x, 10)),
+                Batch.execute(c, "leftRiemannSum 0 1 10 x"));
+    }
+
+    @Test
+    @DisplayName("Invalid jobs")
+    public void invalidJobs() {
+        Assertions.assertTrue(Batch.execute(c, "frobnicate 0 1 x").startsWith("error: "));
+        Assertions.assertTrue(Batch.execute(c, "integrate 0").startsWith("error: "));
+        Assertions.assertTrue(Batch.execute(c, "integrate 0 1 x +").startsWith("error: "));
+        Assertions.assertTrue(Batch.execute(c, "leftRiemannSum 0 1 ten x").startsWith("error: "));
+    }
+
+    @Test
+    @DisplayName("Results are written in input order")
+    public void resultsInInputOrder() throws IOException {
+        final int window = Batch.window;
+        Batch.window = 3;
+        try {
+            final StringBuilder input = new StringBuilder("# Comment\n\n");
+            final StringBuilder expected = new StringBuilder();
+            for (int i = 0; i < 50; i++) {
+                input.append("integrate 0 ").append(i).append(" 2*x\n");
+                expected.append(Double.toString(c.integrate(0, i, x -> 2 * x))).append(System.lineSeparator());
+            }
+
+            input.append("nonsense\n");
+            final StringWriter output = new StringWriter();
+            Batch.run(new StringReader(input.toString()), output);
+            Assertions.assertTrue(output.toString().startsWith(expected.toString()));
+            Assertions.assertTrue(output.toString().substring(expected.length()).startsWith("error: "));
+        } finally {
+            Batch.window = window;
+        }
+    }
+}
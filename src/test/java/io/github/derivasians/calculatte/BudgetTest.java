@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class BudgetTest {
+    @Test
+    @DisplayName("Evaluation budget has no time limit")
+    public void evaluationBudgetHasNoTimeLimit() {
+        final Budget budget = Budget.evaluations(100);
+        Assertions.assertEquals(100, budget.getMaxEvaluations());
+        Assertions.assertEquals(Long.MAX_VALUE, budget.deadline(System.nanoTime()));
+    }
+
+    @Test
+    @DisplayName("Time budget deadline starts with the calculation")
+    public void timeBudgetDeadlineStartsWithTheCalculation() {
+        final Budget budget = Budget.time(Duration.ofMillis(5));
+        Assertions.assertEquals(Long.MAX_VALUE, budget.getMaxEvaluations());
+        Assertions.assertEquals(1_005_000_000L, budget.deadline(1_000_000_000L));
+    }
+
+    @Test
+    @DisplayName("Expired deadline")
+    public void expiredDeadline() {
+        Assertions.assertTrue(Budget.expired(System.nanoTime() - 1));
+        Assertions.assertFalse(Budget.expired(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Budget with no evaluations")
+    public void budgetWithNoEvaluations() {
+        final Exception exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Budget.evaluations(0));
+
+        final String expectedMessage = "There must be at least one evaluation.";
+        Assertions.assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+}
@@ -20,6 +20,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 public class CalculatteTest {
     Calculatte c = new Calculatte();
 
@@ -48,6 +50,83 @@ public class CalculatteTest {
         Assertions.assertEquals(8, area);
     }
 
+    @Test
+    @DisplayName("Integrate bulk 2x from 0 to 2")
+    public void integrateBulkTwoXFrom0To2() {
+        final BulkFunction twoX = BulkFunction.of(x -> 2 * x);
+        final double area = c.integrate(0, 2, twoX);
+        Assertions.assertEquals(4, area);
+    }
+
+    @Test
+    @DisplayName("Integrate bulk x^3 from -2 to 2")
+    public void integrateBulkXCubedFromNegativeTwoToTwo() {
+        final BulkFunction xCubed = (x, y, length) -> {
+            for (int i = 0; i < length; i++) {
+                y[i] = x[i] * x[i] * x[i];
+            }
+        };
+        final double area = c.integrate(-2, 2, xCubed);
+        Assertions.assertEquals(0, area);
+    }
+
+    // Double and Triple Integration
+    @Test
+    @DisplayName("Double integrate xy over the unit square")
+    public void doubleIntegrateXYOverTheUnitSquare() {
+        final BivariateFunction xy = (x, y) -> x * y;
+        final double volume = c.doubleIntegrate(0, 1, x -> 1, x -> 0, xy);
+        Assertions.assertEquals(0.25, volume);
+    }
+
+    @Test
+    @DisplayName("Double integrate 1 between x and x^2 from 0 to 1")
+    public void doubleIntegrateOneBetweenXAndXSquared() {
+        final double area = c.doubleIntegrate(0, 1, x -> x, x -> Math.pow(x, 2), (x, y) -> 1);
+        Assertions.assertEquals(0.167, area);
+    }
+
+    @Test
+    @DisplayName("Triple integrate 1 over the unit tetrahedron")
+    public void tripleIntegrateOneOverTheUnitTetrahedron() {
+        final double volume = c.tripleIntegrate(0, 1, x -> 1 - x, x -> 0,
+                (x, y) -> 1 - x - y, (x, y) -> 0, (x, y, z) -> 1);
+        Assertions.assertEquals(0.167, volume);
+    }
+
+    @Test
+    @DisplayName("Double integrate a large integrand without refining every panel")
+    public void doubleIntegrateALargeIntegrand() {
+        final long[] evaluations = {0};
+        final double volume = c.doubleIntegrate(0, 1, x -> 1, x -> 0, (x, y) -> {
+            evaluations[0]++;
+            return 100000000 * Math.exp(x + y);
+        });
+        Assertions.assertEquals(100000000 * Math.pow(Math.E - 1, 2), volume, 0.001);
+        Assertions.assertTrue(evaluations[0] < 100000);
+    }
+
+    @Test
+    @DisplayName("Triple integrate within the evaluation limit")
+    public void tripleIntegrateWithinTheEvaluationLimit() {
+        final double tolerance = Calculatte.adaptiveTolerance;
+        final long maxEvaluations = Calculatte.adaptiveMaxEvaluations;
+        Calculatte.adaptiveTolerance = 0;
+        Calculatte.adaptiveMaxEvaluations = 100000;
+        try {
+            final long[] evaluations = {0};
+            final double volume = c.tripleIntegrate(0, 1, x -> 1, x -> 0, (x, y) -> 1, (x, y) -> 0, (x, y, z) -> {
+                evaluations[0]++;
+                return 10000 * Math.exp(x + y + z);
+            });
+            Assertions.assertEquals(10000 * Math.pow(Math.E - 1, 3), volume, 0.001);
+            Assertions.assertTrue(evaluations[0] < 200000);
+        } finally {
+            Calculatte.adaptiveTolerance = tolerance;
+            Calculatte.adaptiveMaxEvaluations = maxEvaluations;
+        }
+    }
+
     // Derivation
     @Test
     @DisplayName("Derivative of x^2 at x = 2")
@@ -118,6 +197,14 @@ public class CalculatteTest {
         Assertions.assertTrue(actualMessage.contains(expectedMessage));
     }
 
+    @Test
+    @DisplayName("Left Riemann sum of bulk x^2 from 0 to 16 with n = 4")
+    public void leftRiemannSumOfBulkXSquaredFrom0To16WithNOf4() {
+        final BulkFunction xSquared = BulkFunction.of(x -> Math.pow(x, 2));
+        final double approxArea = c.leftRiemannSum(0, 16, xSquared, 4);
+        Assertions.assertEquals(896, approxArea);
+    }
+
     // Right Riemann Sums
     @Test
     @DisplayName("Right Riemann sum of x^2 from 0 to 16 with n = 4")
@@ -141,6 +228,14 @@ public class CalculatteTest {
         Assertions.assertTrue(actualMessage.contains(expectedMessage));
     }
 
+    @Test
+    @DisplayName("Right Riemann sum of bulk x^2 from 0 to 16 with n = 4")
+    public void rightRiemannSumOfBulkXSquaredFrom0To16WithNOf4() {
+        final BulkFunction xSquared = BulkFunction.of(x -> Math.pow(x, 2));
+        final double approxArea = c.rightRiemannSum(0, 16, xSquared, 4);
+        Assertions.assertEquals(1920, approxArea);
+    }
+
     // Midpoint Rule
     @Test
     @DisplayName("Midpoint rule of x^2 from 0 to 16 with n = 4")
@@ -164,6 +259,14 @@ public class CalculatteTest {
         Assertions.assertTrue(actualMessage.contains(expectedMessage));
     }
 
+    @Test
+    @DisplayName("Midpoint rule of bulk x^2 from 0 to 16 with n = 4")
+    public void midpointRuleOfBulkXSquaredFrom0To16WithNOf4() {
+        final BulkFunction xSquared = BulkFunction.of(x -> Math.pow(x, 2));
+        final double approxArea = c.midpointRule(0, 16, xSquared, 4);
+        Assertions.assertEquals(1344, approxArea);
+    }
+
     // Trapezoidal Sums
     @Test
     @DisplayName("Trapezoidal sum of x^2 from 0 to 16 with n = 4")
@@ -173,6 +276,14 @@ public class CalculatteTest {
         Assertions.assertEquals(1408, approxArea);
     }
 
+    @Test
+    @DisplayName("Trapezoidal sum of bulk x^2 from 0 to 16 with n = 4")
+    public void trapezoidalSumOfBulkXSquaredFrom0To16WithNOf4() {
+        final BulkFunction xSquared = BulkFunction.of(x -> Math.pow(x, 2));
+        Assertions.assertEquals(1408, c.trapezoidalSum(0, 16, xSquared, 4));
+        Assertions.assertEquals(9.333, c.trapezoidalSum(-1, 3, xSquared, 5000));
+    }
+
     @Test
     @DisplayName("Trapezoidal sum with invalid number of rectangles")
     public void trapezoidalSumWithInvalidNumberOfRectangles() {
@@ -228,7 +339,7 @@ public class CalculatteTest {
     @DisplayName("Limit of 1 over x^2 at x = 0")
     public void limitOf1OverXSquaredAtXEquals0() {
         final Function function = x -> 1 / Math.pow(x, 2);
-        Assertions.assertEquals(9.9999999999999987E17, c.limit(0, function));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, c.limit(0, function));
     }
 
     @Test
@@ -245,6 +356,15 @@ public class CalculatteTest {
         Assertions.assertEquals(6, c.limit(4, function));
     }
 
+    @Test
+    @DisplayName("Limit that cancels near x")
+    public void limitThatCancelsNearX() {
+        final Function function = x -> (1 - Math.cos(x)) / Math.pow(x, 2);
+        Assertions.assertEquals(0.5, c.limit(0, function));
+        Assertions.assertEquals(0.5, c.leftLimit(0, function));
+        Assertions.assertEquals(0.5, c.rightLimit(0, function));
+    }
+
     @Test
     @DisplayName("Limit at a violent oscillation")
     public void limitAtAViolentOscillation() {
@@ -301,4 +421,286 @@ public class CalculatteTest {
         final double area = c.polarArea(0, Math.PI, function);
         Assertions.assertEquals(3.142, area);
     }
+
+    @Test
+    @DisplayName("Polar integrate periodic sin(x) from 0 to 2Pi")
+    public void polarIntegratePeriodicSineXFrom0To2Pi() {
+        final PeriodicFunction function = PeriodicFunction.of(Math::sin, 2 * Math.PI);
+        final double area = c.polarArea(0, 2 * Math.PI, function);
+        Assertions.assertEquals(1.571, area);
+    }
+
+    @Test
+    @DisplayName("Polar integrate 2cos(3x) over whole periods in tens of evaluations")
+    public void polarIntegrate2Cosine3XOverWholePeriods() {
+        final int[] evaluations = {0};
+        final Function function = x -> {
+            evaluations[0]++;
+            return 2 * Math.cos(3 * x);
+        };
+        final double area = c.polarArea(0, 2 * Math.PI, function, 2 * Math.PI / 3);
+        Assertions.assertEquals(6.283, area);
+        Assertions.assertTrue(evaluations[0] < 100);
+    }
+
+    @Test
+    @DisplayName("Polar integrate sin(x) over part of a period")
+    public void polarIntegrateSineXOverPartOfAPeriod() {
+        final double area = c.polarArea(0, Math.PI / 2, Math::sin, 2 * Math.PI);
+        Assertions.assertEquals(c.polarArea(0, Math.PI / 2, Math::sin), area);
+    }
+
+    @Test
+    @DisplayName("Polar integrate with an invalid period")
+    public void polarIntegrateWithAnInvalidPeriod() {
+        final Exception exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> c.polarArea(0, Math.PI, Math::sin, 0));
+
+        final String expectedMessage = "<0.0> is not a valid period. Please enter a finite, nonzero period.";
+        final String actualMessage = exception.getMessage();
+
+        Assertions.assertTrue(actualMessage.contains(expectedMessage));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> c.polarArea(0, Math.PI, Math::sin, Double.POSITIVE_INFINITY));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> c.polarArea(0, Math.PI, Math::sin, Double.NaN));
+    }
+
+    @Test
+    @DisplayName("Polar area of the rose cos(16x) is not aliased")
+    public void polarAreaOfRoseIsNotAliased() {
+        final PeriodicFunction rose = PeriodicFunction.of(x -> Math.cos(16 * x), Math.PI / 8);
+        Assertions.assertEquals(1.571, c.polarArea(0, 2 * Math.PI, rose));
+        Assertions.assertEquals(c.polarArea(0, 2 * Math.PI, x -> Math.cos(16 * x)), c.polarArea(0, 2 * Math.PI, rose));
+        Assertions.assertEquals(6.283, c.integratePeriodic(0, 2 * Math.PI, x -> 1 + Math.cos(32 * x)));
+    }
+
+    @Test
+    @DisplayName("Integrate periodic e^sin(x) from 0 to 2Pi")
+    public void integratePeriodicEToTheSineX() {
+        final double area = c.integratePeriodic(0, 2 * Math.PI, x -> Math.exp(Math.sin(x)));
+        Assertions.assertEquals(7.955, area);
+    }
+
+    @Test
+    @DisplayName("Invalid period")
+    public void invalidPeriod() {
+        final Exception exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> PeriodicFunction.of(Math::sin, 0));
+
+        final String expectedMessage = "The period must be positive and finite.";
+        Assertions.assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+
+    // Estimates
+    @Test
+    @DisplayName("Estimate the integral of x^2 from 0 to 3")
+    public void estimateIntegralOfXSquaredFrom0To3() {
+        final Function xSquared = x -> Math.pow(x, 2);
+        final Estimate estimate = c.estimateIntegral(0, 3, xSquared);
+        Assertions.assertEquals(9, estimate.getValue(), 0.000000001);
+        Assertions.assertTrue(estimate.isConverged());
+        Assertions.assertTrue(estimate.getEvaluations() < 100);
+    }
+
+    @Test
+    @DisplayName("Estimate the integral of e^x within an evaluation budget")
+    public void estimateIntegralWithinAnEvaluationBudget() {
+        final Estimate estimate = c.estimateIntegral(0, 1, Math::exp, Budget.evaluations(9));
+        Assertions.assertEquals(Math.E - 1, estimate.getValue(), 0.0001);
+        Assertions.assertTrue(estimate.getEvaluations() <= 9);
+        Assertions.assertFalse(estimate.isConverged());
+    }
+
+    @Test
+    @DisplayName("Estimate the integral of e^x with an expired deadline")
+    public void estimateIntegralWithAnExpiredDeadline() {
+        final Estimate estimate = c.estimateIntegral(0, 1, Math::exp, Budget.time(Duration.ZERO));
+        Assertions.assertEquals((1 + Math.E) / 2, estimate.getValue(), 0.000000001);
+        Assertions.assertEquals(2, estimate.getEvaluations());
+        Assertions.assertFalse(estimate.isConverged());
+    }
+
+    @Test
+    @DisplayName("Estimate stops at a non-finite sample")
+    public void estimateIntegralStopsAtANonFiniteSample() {
+        final Estimate estimate = c.estimatePolarArea(0, 1, x -> 1 / Math.pow(x, 0.25), Budget.UNLIMITED);
+        Assertions.assertFalse(estimate.isConverged());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, estimate.getError());
+        Assertions.assertTrue(estimate.getEvaluations() < 10);
+
+        final Estimate nan = c.estimateIntegral(-1, 1, x -> x == 0 ? Double.NaN : 1, Budget.UNLIMITED);
+        Assertions.assertFalse(nan.isConverged());
+    }
+
+    @Test
+    @DisplayName("Estimate the derivative of sin(x) at x = 0")
+    public void estimateDerivativeOfSineXAtXEquals0() {
+        final Estimate estimate = c.estimateDerivative(0, Math::sin);
+        Assertions.assertEquals(1, estimate.getValue(), 0.00000001);
+        Assertions.assertTrue(estimate.getError() < 0.00000001);
+    }
+
+    @Test
+    @DisplayName("Estimate the derivative of sin(x) far from x = 0")
+    public void estimateDerivativeOfSineXFarFromXEquals0() {
+        for (double x : new double[]{100, 1000, -1000000}) {
+            final Estimate estimate = c.estimateDerivative(x, Math::sin);
+            Assertions.assertEquals(Math.cos(x), estimate.getValue(), 0.00000001);
+            Assertions.assertTrue(Math.abs(estimate.getValue() - Math.cos(x)) <= estimate.getError() + 0.000000001);
+        }
+    }
+
+    @Test
+    @DisplayName("Estimate the derivative of sin(50x) at x = 0")
+    public void estimateDerivativeOfSine50XAtXEquals0() {
+        final Estimate estimate = c.estimateDerivative(0, x -> Math.sin(50 * x));
+        Assertions.assertEquals(50, estimate.getValue(), 0.000001);
+        Assertions.assertTrue(estimate.isConverged());
+    }
+
+    @Test
+    @DisplayName("Estimate is not converged when the budget runs out")
+    public void estimateDerivativeNotConvergedWithinBudget() {
+        final Estimate estimate = c.estimateDerivative(0, x -> Math.sin(50 * x), Budget.evaluations(5));
+        Assertions.assertFalse(estimate.isConverged());
+    }
+
+    @Test
+    @DisplayName("Estimate derivative DNE of |x| at x = 0")
+    public void estimateDerivativeDoesNotExistOfAbsoluteValueOfXAtXEquals0() {
+        final Function function = Math::abs;
+        final Estimate estimate = c.estimateDerivative(0, function);
+        Assertions.assertEquals(Double.NaN, estimate.getValue());
+        Assertions.assertFalse(estimate.isConverged());
+    }
+
+    @Test
+    @DisplayName("Estimate the limit at a removable discontinuity")
+    public void estimateLimitAtARemovableDiscontinuity() {
+        final Function function = x -> (Math.pow(x, 2) - (2 * x) - 8) / (x - 4);
+        Assertions.assertEquals(6, c.estimateLimit(4, function).getValue(), 0.000001);
+    }
+
+    @Test
+    @DisplayName("Estimate the limit of x^2 at x = 2")
+    public void estimateLimitOfXSquaredAtXEquals2() {
+        final Function function = x -> Math.pow(x, 2);
+        final Estimate estimate = c.estimateLimit(2, function);
+        Assertions.assertEquals(4, estimate.getValue(), 0.000000001);
+        Assertions.assertEquals(2L * Calculatte.limitSequenceLength, estimate.getEvaluations());
+    }
+
+    @Test
+    @DisplayName("Estimate the limit of sin(x) / x at x = 0")
+    public void estimateLimitOfSineXOverXAtXEquals0() {
+        final Function function = x -> Math.sin(x) / x;
+        Assertions.assertEquals(1, c.estimateLimit(0, function).getValue(), 0.000000001);
+    }
+
+    @Test
+    @DisplayName("Estimate the limit of sin(x) far from x = 0")
+    public void estimateLimitOfSineXFarFromXEquals0() {
+        for (double x : new double[]{1000, 10000, -123456.5}) {
+            final Estimate estimate = c.estimateLimit(x, Math::sin);
+            Assertions.assertEquals(Math.sin(x), estimate.getValue(), 0.000000001);
+            Assertions.assertTrue(estimate.isConverged());
+        }
+    }
+
+    @Test
+    @DisplayName("Estimate the limit of sin(1000x) / x at x = 0")
+    public void estimateLimitOfSine1000XOverXAtXEquals0() {
+        final Function function = x -> Math.sin(1000 * x) / x;
+        Assertions.assertEquals(1000, c.estimateLimit(0, function).getValue(), 0.000001);
+    }
+
+    @Test
+    @DisplayName("Estimate the limit of 1 over x^2 at x = 0")
+    public void estimateLimitOf1OverXSquaredAtXEquals0() {
+        final Function function = x -> 1 / Math.pow(x, 2);
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, c.estimateLimit(0, function).getValue());
+    }
+
+    @Test
+    @DisplayName("Estimate the limit at an asymptote")
+    public void estimateLimitAtAnAsymptote() {
+        final Function function = x -> (x + 2) / x;
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, c.estimateLeftLimit(0, function).getValue());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, c.estimateRightLimit(0, function).getValue());
+        Assertions.assertEquals(Double.NaN, c.estimateLimit(0, function).getValue());
+    }
+
+    @Test
+    @DisplayName("Estimate the limit at a violent oscillation")
+    public void estimateLimitAtAViolentOscillation() {
+        final Function function = x -> Math.sin(1 / x);
+        Assertions.assertEquals(Double.NaN, c.estimateLimit(0, function).getValue());
+    }
+
+    @Test
+    @DisplayName("Estimate the limit at a jump discontinuity")
+    public void estimateLimitAtAJumpDiscontinuity() {
+        final Function function = Math::signum;
+        Assertions.assertEquals(-1, c.estimateLeftLimit(0, function).getValue());
+        Assertions.assertEquals(1, c.estimateRightLimit(0, function).getValue());
+        Assertions.assertEquals(Double.NaN, c.estimateLimit(0, function).getValue());
+    }
+
+    @Test
+    @DisplayName("Estimate the right limit of sqrt(x) at x = 0")
+    public void estimateRightLimitOfSquareRootOfXAtXEquals0() {
+        final Estimate estimate = c.estimateRightLimit(0, Math::sqrt);
+        Assertions.assertEquals(0, estimate.getValue(), 0.000000001);
+    }
+
+    @Test
+    @DisplayName("Estimate the limit at positive infinity")
+    public void estimateLimitAtPositiveInfinity() {
+        final Function function = x -> 5 + (3 / Math.pow(x, 2));
+        final Estimate estimate = c.estimateLimit(Double.POSITIVE_INFINITY, function);
+        Assertions.assertEquals(5, estimate.getValue(), 0.000000001);
+        Assertions.assertEquals(Calculatte.limitSequenceLength, estimate.getEvaluations());
+    }
+
+    @Test
+    @DisplayName("Estimate limits that do not exist in a few evaluations")
+    public void estimateLimitsThatDoNotExistInAFewEvaluations() {
+        final int perSide = Calculatte.limitSequenceLength + Calculatte.limitExtraPoints;
+        Assertions.assertTrue(perSide <= 20);
+        Assertions.assertEquals(perSide, c.estimateLimit(Double.POSITIVE_INFINITY, Math::sin).getEvaluations());
+        Assertions.assertTrue(c.estimateLimit(0, Math::sqrt).getEvaluations() <= 2 * perSide);
+    }
+
+    @Test
+    @DisplayName("Estimate the limit of e^x at negative infinity")
+    public void estimateLimitOfEToTheXAtNegativeInfinity() {
+        final Estimate estimate = c.estimateLimit(Double.NEGATIVE_INFINITY, Math::exp);
+        Assertions.assertEquals(0, estimate.getValue(), 0.000000001);
+    }
+
+    @Test
+    @DisplayName("Estimate the revolution of x^2 from 0 to 2")
+    public void estimateRevolutionOfXSquaredFrom0To2() {
+        final Function xSquared = x -> Math.pow(x, 2);
+        final Estimate estimate = c.estimateRevolution(0, 2, 0, xSquared, x -> 0, Budget.UNLIMITED);
+        Assertions.assertEquals(32 * Math.PI / 5, estimate.getValue(), 0.000001);
+    }
+
+    @Test
+    @DisplayName("Estimate the cross section of an equilateral triangle")
+    public void estimateCrossSectionOfAnEquilateralTriangle() {
+        final Function functionTop = x -> 1 - (x / 2);
+        final Function functionBottom = x -> -1 + (x / 2);
+        final Estimate estimate = c.estimateCrossSection(0, 2, functionTop, functionBottom,
+                Calculatte.EQUILATERAL_TRIANGLE, Budget.UNLIMITED);
+        Assertions.assertEquals(2 * Math.sqrt(3) / 3, estimate.getValue(), 0.000001);
+    }
+
+    @Test
+    @DisplayName("Estimate the polar area of sin(x) from 0 to Pi")
+    public void estimatePolarAreaOfSineXFrom0ToPi() {
+        final Estimate estimate = c.estimatePolarArea(0, Math.PI, Math::sin, Budget.UNLIMITED);
+        Assertions.assertEquals(Math.PI / 4, estimate.getValue(), 0.000001);
+    }
 }
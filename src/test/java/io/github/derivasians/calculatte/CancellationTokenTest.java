@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CancellationTokenTest {
+    Calculatte c = new Calculatte();
+
+    @Test
+    @DisplayName("Monitored integral matches the plain integral")
+    public void monitoredMatchesPlain() {
+        final int roundingDecimalPlaces = Calculatte.integrationRoundingDecimalPlaces;
+        Calculatte.integrationRoundingDecimalPlaces = -1;
+        try {
+            final Function f = x -> Math.exp(-x) * Math.sin(3 * x);
+            Assertions.assertEquals(c.integrate(0, 5, f),
+                    c.integrate(0, 5, f, new CancellationToken(), (completed, total) -> { }));
+        } finally {
+            Calculatte.integrationRoundingDecimalPlaces = roundingDecimalPlaces;
+        }
+    }
+
+    @Test
+    @DisplayName("Progress counts every evaluation")
+    public void progressCountsEveryEvaluation() {
+        final List<long[]> reports = new ArrayList<>();
+        c.revolve(0, 2, 0, x -> x, x -> 0, null, (completed, total) -> reports.add(new long[]{completed, total}));
+
+        long previous = 0;
+        for (long[] report : reports) {
+            Assertions.assertEquals(2L * Calculatte.n, report[1]);
+            Assertions.assertTrue(report[0] >= previous);
+            previous = report[0];
+        }
+
+        Assertions.assertEquals(2L * Calculatte.n, previous);
+    }
+
+    @Test
+    @DisplayName("Cancelled partway through")
+    public void cancelledPartwayThrough() {
+        final CancellationToken token = new CancellationToken();
+        final CalculationCancelledException e = Assertions.assertThrows(CalculationCancelledException.class,
+                () -> c.crossSection(0, 1, x -> x, x -> 0, Calculatte.SQUARE, token, (completed, total) -> {
+                    if (completed >= total / 2) {
+                        token.cancel();
+                    }
+                }));
+        Assertions.assertTrue(token.isCancelled());
+        Assertions.assertTrue(e.getCompleted() >= e.getTotal() / 2);
+        Assertions.assertTrue(e.getCompleted() < e.getTotal());
+        Assertions.assertEquals(Calculatte.n, e.getTotal());
+    }
+
+    @Test
+    @DisplayName("Cancelled before starting")
+    public void cancelledBeforeStarting() {
+        final CancellationToken token = new CancellationToken();
+        token.cancel();
+        final CalculationCancelledException e = Assertions.assertThrows(CalculationCancelledException.class,
+                () -> c.integrate(0, 1, x -> x, token, null));
+        Assertions.assertEquals(0, e.getCompleted());
+    }
+}
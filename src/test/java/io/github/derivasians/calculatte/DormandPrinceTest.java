@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class DormandPrinceTest {
+    DormandPrince solver = new DormandPrince();
+
+    @Test
+    @DisplayName("Solve y' = y from 0 to 1")
+    public void solveExponentialGrowth() {
+        final Solution solution = solver.solve((x, y) -> y, 0, 1, 1);
+        Assertions.assertEquals(Math.E, solution.f(1), 0.00000001);
+        Assertions.assertTrue(solution.getSteps() < 100);
+        Assertions.assertEquals(2 + 6L * (solution.getSteps() + solution.getRejectedSteps()),
+                solution.getEvaluations());
+    }
+
+    @Test
+    @DisplayName("Dense output between steps")
+    public void denseOutputBetweenSteps() {
+        final Solution solution = solver.solve((x, y) -> y, 0, 1, 1);
+        for (double x = 0; x <= 1; x += 0.037) {
+            Assertions.assertEquals(Math.exp(x), solution.f(x), 0.00000001);
+        }
+    }
+
+    @Test
+    @DisplayName("Solve y' = y backwards from 1 to 0")
+    public void solveBackwards() {
+        final Solution solution = solver.solve((x, y) -> y, 1, Math.E, 0);
+        Assertions.assertEquals(1, solution.f(0), 0.00000001);
+        Assertions.assertEquals(Math.exp(0.5), solution.f(0.5), 0.00000001);
+    }
+
+    @Test
+    @DisplayName("Solve the harmonic oscillator y'' = -y")
+    public void solveHarmonicOscillator() {
+        final DifferentialEquation oscillator = (x, y, dydx) -> {
+            dydx[0] = y[1];
+            dydx[1] = -y[0];
+        };
+        final Solution solution = solver.solve(oscillator, 0, new double[]{0, 1}, 10 * Math.PI);
+
+        Assertions.assertEquals(2, solution.getDimensions());
+        Assertions.assertEquals(1, solution.f(Math.PI / 2), 0.0000001);
+        Assertions.assertEquals(-1, solution.f(Math.PI, 1), 0.0000001);
+        Assertions.assertEquals(Math.sin(31), solution.component(0).f(31), 0.0000001);
+    }
+
+    @Test
+    @DisplayName("Integrate a solution")
+    public void integrateASolution() {
+        final Solution solution = solver.solve((x, y) -> y, 0, 1, 1);
+        Assertions.assertEquals(1.718, new Calculatte().integrate(0, 1, solution));
+    }
+
+    @Test
+    @DisplayName("Solve over an empty interval")
+    public void solveOverAnEmptyInterval() {
+        final Solution solution = solver.solve((x, y) -> y, 2, 3, 2);
+        Assertions.assertEquals(0, solution.getSteps());
+        Assertions.assertEquals(3, solution.f(2));
+    }
+
+    @Test
+    @DisplayName("Invalid component")
+    public void invalidComponent() {
+        final Solution solution = solver.solve((x, y) -> y, 0, 1, 1);
+
+        final Exception exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> solution.f(0, 1));
+
+        final String expectedMessage = "<1> is not a valid component. Please enter a valid component (0 - 0).";
+        Assertions.assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ExpressionTest {
+    @Test
+    @DisplayName("Operator precedence")
+    public void operatorPrecedence() {
+        Assertions.assertEquals(7, Expression.parse("1 + 2 * 3").f(0));
+        Assertions.assertEquals(9, Expression.parse("(1 + 2) * 3").f(0));
+        Assertions.assertEquals(-4, Expression.parse("-x^2").f(2));
+        Assertions.assertEquals(512, Expression.parse("2^3^2").f(0));
+        Assertions.assertEquals(0.5, Expression.parse("1 / 2").f(0));
+        Assertions.assertEquals(1, Expression.parse("3 - 1 - 1").f(0));
+    }
+
+    @Test
+    @DisplayName("Functions, constants and numbers")
+    public void functionsConstantsAndNumbers() {
+        Assertions.assertEquals(Math.sin(2) + Math.exp(2), Expression.parse("sin(x) + exp(x)").f(2));
+        Assertions.assertEquals(Math.cos(0.3), Expression.parse("cos").f(0.3));
+        Assertions.assertEquals(2 * Math.PI * Math.E, Expression.parse("2*pi*e").f(0));
+        Assertions.assertEquals(0.0015, Expression.parse("1.5e-3").f(0));
+        Assertions.assertEquals(2 * Math.PI, Expression.evaluate("2*pi"));
+    }
+
+    @Test
+    @DisplayName("Equal text ignoring whitespace")
+    public void equality() {
+        Assertions.assertEquals(Expression.parse("x^2 + 1"), Expression.parse("x^2+1"));
+        Assertions.assertEquals(Expression.parse("x^2 + 1").hashCode(), Expression.parse("x^2+1").hashCode());
+        Assertions.assertFalse(Expression.parse("x^2").equals(Expression.parse("x^3")));
+    }
+
+    @Test
+    @DisplayName("Invalid expressions")
+    public void invalidExpressions() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Expression.parse("x +"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Expression.parse("(x"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Expression.parse("foo(x)"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Expression.parse("2 x"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Expression.evaluate("x"));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class QuasiMonteCarloTest {
+    QuasiMonteCarlo qmc = new QuasiMonteCarlo();
+
+    @Test
+    @DisplayName("Integrate the product of 5 coordinates over the unit hypercube")
+    public void integrateProductOverUnitHypercube() {
+        final MultivariateFunction product = x -> x[0] * x[1] * x[2] * x[3] * x[4];
+        final double[] lower = {0, 0, 0, 0, 0};
+        final double[] upper = {1, 1, 1, 1, 1};
+        final Estimate estimate = qmc.integrate(lower, upper, product);
+        Assertions.assertEquals(1.0 / 32, estimate.getValue(), 0.0001);
+        Assertions.assertTrue(estimate.getError() < 0.0001);
+        Assertions.assertEquals((long) QuasiMonteCarlo.points * QuasiMonteCarlo.replicates,
+                estimate.getEvaluations());
+    }
+
+    @Test
+    @DisplayName("Integrate 1 between x and x^2 from 0 to 1")
+    public void integrateOneBetweenXAndXSquared() {
+        final Estimate estimate = qmc.integrate(0, 1, x -> x, x -> Math.pow(x, 2), (x, y) -> 1);
+        Assertions.assertEquals(1.0 / 6, estimate.getValue(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Integrate 1 over the unit tetrahedron")
+    public void integrateOneOverTheUnitTetrahedron() {
+        final Estimate estimate = qmc.integrate(0, 1, x -> 1 - x, x -> 0,
+                (x, y) -> 1 - x - y, (x, y) -> 0, (x, y, z) -> 1);
+        Assertions.assertEquals(1.0 / 6, estimate.getValue(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Converged only within the estimate tolerance")
+    public void convergedOnlyWithinTheEstimateTolerance() {
+        final MultivariateFunction function = x -> Math.exp(x[0] + x[1] + x[2]);
+        final double[] lower = {0, 0, 0};
+        final double[] upper = {1, 1, 1};
+        final double tolerance = Calculatte.estimateTolerance;
+        try {
+            Calculatte.estimateTolerance = 0.000000000000001;
+            Assertions.assertFalse(qmc.integrate(lower, upper, function).isConverged());
+            Calculatte.estimateTolerance = 0.01;
+            Assertions.assertTrue(qmc.integrate(lower, upper, function).isConverged());
+        } finally {
+            Calculatte.estimateTolerance = tolerance;
+        }
+    }
+
+    @Test
+    @DisplayName("Estimates are reproducible")
+    public void estimatesAreReproducible() {
+        final MultivariateFunction function = x -> Math.exp(x[0] + x[1] + x[2]);
+        final double[] lower = {0, 0, 0};
+        final double[] upper = {1, 2, 3};
+        Assertions.assertEquals(qmc.integrate(lower, upper, function).getValue(),
+                qmc.integrate(lower, upper, function).getValue());
+    }
+
+    @Test
+    @DisplayName("Integrate with mismatched limits")
+    public void integrateWithMismatchedLimits() {
+        final Exception exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> qmc.integrate(new double[2], new double[3], x -> 1));
+
+        final String expectedMessage = "There must be as many lower limits as upper limits.";
+        Assertions.assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+}
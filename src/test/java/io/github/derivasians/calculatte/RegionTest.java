@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RegionTest {
+    Calculatte c = new Calculatte();
+
+    @Test
+    @DisplayName("Area between x and x^2 from 0 to 1")
+    public void areaBetweenXAndXSquared() {
+        final Region region = new Region(0, 1, x -> x, x -> Math.pow(x, 2));
+        Assertions.assertEquals(0.167, region.area());
+    }
+
+    @Test
+    @DisplayName("Revolve x^2 from 0 to 2")
+    public void revolveXSquaredFrom0To2() {
+        final Function xSquared = x -> Math.pow(x, 2);
+        final Region region = new Region(0, 2, xSquared, x -> 0);
+        Assertions.assertEquals(c.revolve(0, 2, 0, xSquared, x -> 0), region.revolve(0));
+    }
+
+    @Test
+    @DisplayName("Revolve x^2 from 0 to 2 about y = 4")
+    public void revolveXSquaredFrom0To2AboutYEquals4() {
+        final Function xSquared = x -> Math.pow(x, 2);
+        final Region region = new Region(0, 2, xSquared, x -> 0);
+        Assertions.assertEquals(46.914, region.revolve(4));
+        Assertions.assertEquals(-c.revolve(0, 2, 4, xSquared, x -> 0), region.revolve(4));
+    }
+
+    @Test
+    @DisplayName("Revolve about an axis through the region")
+    public void revolveAboutAnAxisThroughTheRegion() {
+        final Region region = new Region(0, 1, x -> 1, x -> -1);
+        Assertions.assertEquals(Math.PI, region.revolve(0), 0.001);
+    }
+
+    @Test
+    @DisplayName("Every cross-section matches Calculatte")
+    public void everyCrossSectionMatchesCalculatte() {
+        final Function functionTop = x -> 1 - (x / 2);
+        final Function functionBottom = x -> -1 + (x / 2);
+        final Region region = new Region(0, 2, functionTop, functionBottom);
+
+        for (int type = Calculatte.SQUARE; type <= Calculatte.SEMICIRCLE; type++) {
+            Assertions.assertEquals(c.crossSection(0, 2, functionTop, functionBottom, type),
+                    region.crossSection(type));
+        }
+    }
+
+    @Test
+    @DisplayName("Functions are only sampled once")
+    public void functionsAreOnlySampledOnce() {
+        final int[] evaluations = {0};
+        final Function counted = x -> {
+            evaluations[0]++;
+            return x;
+        };
+        final Region region = new Region(0, 1, counted, counted, 101);
+        region.area();
+        region.revolve(-1);
+        region.revolve(0.5);
+        region.crossSection(Calculatte.SQUARE);
+        Assertions.assertEquals(2 * 101, evaluations[0]);
+    }
+
+    @Test
+    @DisplayName("Invalid cross-section type")
+    public void invalidCrossSectionType() {
+        final Region region = new Region(0, 2, x -> 1 - (x / 2), x -> -1 + (x / 2));
+
+        final Exception exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> region.crossSection(5));
+
+        final String expectedMessage = "<5> is not a valid cross-section type. Please enter a valid cross-section type (0 - 4).";
+        Assertions.assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+}
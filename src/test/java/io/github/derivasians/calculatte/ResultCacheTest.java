@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+public class ResultCacheTest {
+    Calculatte c = new Calculatte();
+
+    /**
+     * Runs a test with a fresh cache enabled, disabling it again afterwards.
+     */
+    private void withCache(ResultCache cache, Runnable test) {
+        final ResultCache previous = Calculatte.resultCache;
+        Calculatte.resultCache = cache;
+        try {
+            test.run();
+        } finally {
+            Calculatte.resultCache = previous;
+        }
+    }
+
+    @Test
+    @DisplayName("Repeated integrals are cached")
+    public void repeatedIntegralsAreCached() {
+        final ResultCache cache = new ResultCache(16);
+        final int[] evaluations = {0};
+        final Function twoX = x -> {
+            evaluations[0]++;
+            return 2 * x;
+        };
+
+        withCache(cache, () -> {
+            Assertions.assertEquals(4, c.integrate(0, 2, twoX));
+            final int firstEvaluations = evaluations[0];
+            Assertions.assertEquals(4, c.integrate(0, 2, twoX));
+            Assertions.assertEquals(firstEvaluations, evaluations[0]);
+        });
+
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(0.5, cache.getHitRate());
+    }
+
+    @Test
+    @DisplayName("Changing a setting misses the cache")
+    public void changingASettingMissesTheCache() {
+        final ResultCache cache = new ResultCache(16);
+        final Function xSquared = x -> Math.pow(x, 2);
+        final int places = Calculatte.integrationRoundingDecimalPlaces;
+
+        withCache(cache, () -> {
+            Assertions.assertEquals(2.667, c.integrate(0, 2, xSquared));
+            Calculatte.integrationRoundingDecimalPlaces = 1;
+            try {
+                Assertions.assertEquals(2.7, c.integrate(0, 2, xSquared));
+            } finally {
+                Calculatte.integrationRoundingDecimalPlaces = places;
+            }
+        });
+
+        Assertions.assertEquals(0, cache.getHitCount());
+        Assertions.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Volumes are cached by type")
+    public void volumesAreCachedByType() {
+        final ResultCache cache = new ResultCache(16);
+        final Function functionTop = x -> 1 - (x / 2);
+        final Function functionBottom = x -> -1 + (x / 2);
+
+        withCache(cache, () -> {
+            Assertions.assertEquals(1.155, c.crossSection(0, 2, functionTop, functionBottom,
+                    Calculatte.EQUILATERAL_TRIANGLE));
+            Assertions.assertEquals(1.155, c.crossSection(0, 2, functionTop, functionBottom,
+                    Calculatte.EQUILATERAL_TRIANGLE));
+            c.crossSection(0, 2, functionTop, functionBottom, Calculatte.SQUARE);
+            Assertions.assertEquals(20.106, c.revolve(0, 2, 0, x -> Math.pow(x, 2), x -> 0));
+        });
+
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Least recently used results are evicted")
+    public void leastRecentlyUsedResultsAreEvicted() {
+        final ResultCache cache = new ResultCache(2);
+        cache.get(List.of("a"), () -> 1);
+        cache.get(List.of("b"), () -> 2);
+        cache.get(List.of("a"), () -> 1);
+        cache.get(List.of("c"), () -> 3);
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.getEvictionCount());
+        Assertions.assertEquals(1, cache.get(List.of("a"), () -> -1));
+        Assertions.assertEquals(-1, cache.get(List.of("b"), () -> -1));
+    }
+
+    @Test
+    @DisplayName("Expired results are recalculated")
+    public void expiredResultsAreRecalculated() throws InterruptedException {
+        final ResultCache cache = new ResultCache(2, Duration.ofMillis(1));
+        cache.get(List.of("a"), () -> 1);
+        Thread.sleep(5);
+        Assertions.assertEquals(2, cache.get(List.of("a"), () -> 2));
+        Assertions.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Cache with no room")
+    public void cacheWithNoRoom() {
+        final Exception exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ResultCache(0));
+
+        final String expectedMessage = "The cache must hold at least one result.";
+        Assertions.assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+}
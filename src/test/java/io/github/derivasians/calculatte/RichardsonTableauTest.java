@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RichardsonTableauTest {
+    @Test
+    @DisplayName("Extrapolate the forward difference quotient of e^x at x = 0")
+    public void extrapolateForwardDifferenceOfEToTheX() {
+        final RichardsonTableau tableau = new RichardsonTableau(2, 1);
+        double h = 0.5;
+        for (int i = 0; i < 8; i++) {
+            tableau.add((Math.exp(h) - 1) / h);
+            h /= 2;
+        }
+
+        Assertions.assertEquals(1, tableau.getValue(), 0.0000000001);
+        Assertions.assertTrue(tableau.getError() < 0.0000001);
+        Assertions.assertEquals(8, tableau.getRows());
+    }
+
+    @Test
+    @DisplayName("A single approximation has no error estimate")
+    public void singleApproximationHasNoErrorEstimate() {
+        final RichardsonTableau tableau = new RichardsonTableau(2, 1);
+        tableau.add(3);
+        Assertions.assertEquals(3, tableau.getValue());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, tableau.getError());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SobolSequenceTest {
+    @Test
+    @DisplayName("First points of the unscrambled sequence")
+    public void firstPointsOfTheUnscrambledSequence() {
+        final SobolSequence sequence = new SobolSequence(2);
+        final double[] point = new double[2];
+        final double[][] expected = {{0, 0}, {0.5, 0.5}, {0.75, 0.25}, {0.25, 0.75}};
+
+        for (double[] p : expected) {
+            sequence.next(point);
+            Assertions.assertArrayEquals(p, point, 0.000000001);
+        }
+    }
+
+    @Test
+    @DisplayName("Scrambled points lie inside the unit hypercube")
+    public void scrambledPointsLieInsideTheUnitHypercube() {
+        final SobolSequence sequence = new SobolSequence(SobolSequence.MAX_DIMENSIONS, 42);
+        final double[] point = new double[SobolSequence.MAX_DIMENSIONS];
+
+        for (int i = 0; i < 1024; i++) {
+            sequence.next(point);
+            for (double u : point) {
+                Assertions.assertTrue(u > 0 && u < 1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid number of dimensions")
+    public void invalidNumberOfDimensions() {
+        final Exception exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SobolSequence(17));
+
+        final String expectedMessage = "<17> is not a valid number of dimensions.";
+        Assertions.assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SplineTest {
+    Calculatte c = new Calculatte();
+
+    @Test
+    @DisplayName("Natural spline passes through its points")
+    public void naturalPassesThroughPoints() {
+        final double[] x = {0, 0.5, 1.5, 2, 3.5};
+        final double[] y = {1, -2, 0.25, 4, 3};
+        final Spline spline = Spline.natural(x, y);
+        for (int i = 0; i < x.length; i++) {
+            Assertions.assertEquals(y[i], spline.f(x[i]), 0.000000000001);
+        }
+    }
+
+    @Test
+    @DisplayName("Spline with rounded uniform points finds the piece each point starts")
+    public void uniformPiecesStartAtTheirPoints() {
+        final double[] x = new double[51];
+        final double[] y = new double[51];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 1.7 + i * 0.1;
+            y[i] = Math.sin(7 * i);
+        }
+
+        final Spline spline = Spline.natural(x, y);
+        for (int i = 0; i < x.length - 1; i++) {
+            Assertions.assertEquals(y[i], spline.f(x[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("Clamped spline reproduces x^3")
+    public void clampedReproducesCubic() {
+        final double[] x = {-1, -0.2, 0.3, 0.35, 1.1, 2};
+        final double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            y[i] = Math.pow(x[i], 3);
+        }
+
+        final Spline spline = Spline.clamped(x, y, 3, 12);
+        Assertions.assertEquals(Math.pow(0.7, 3), spline.f(0.7), 0.000000000001);
+        Assertions.assertEquals(3 * Math.pow(0.7, 2), spline.derivative(0.7), 0.000000000001);
+        Assertions.assertEquals(3.75, spline.integrate(-1, 2), 0.000000000001);
+        Assertions.assertEquals(3.75, c.integrate(-1, 2, spline));
+        Assertions.assertEquals(1.47, c.derivate(0.7, spline));
+    }
+
+    @Test
+    @DisplayName("Integrate natural spline of sin on a uniform grid")
+    public void integrateUniformSin() {
+        final Tabulation t = new Tabulation();
+        final double[] x = t.grid(0, Math.PI, 101);
+        final double[] y = t.tabulate(0, Math.PI, 101, Math::sin);
+        final Spline spline = Spline.natural(x, y);
+        Assertions.assertEquals(2, spline.integrate(0, Math.PI), 0.000001);
+        Assertions.assertEquals(Math.sin(1), spline.f(1), 0.000001);
+        Assertions.assertEquals(Math.cos(1), spline.derivative(1), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Monotone spline does not overshoot a step")
+    public void monotoneDoesNotOvershoot() {
+        final double[] x = {0, 1, 2, 3, 4, 5};
+        final double[] y = {0, 0, 0, 1, 1, 1};
+        final Spline spline = Spline.monotone(x, y);
+        double previous = spline.f(0);
+        for (double t = 0; t <= 5; t += 0.01) {
+            final double value = spline.f(t);
+            Assertions.assertTrue(value >= previous - 0.000000000000001);
+            Assertions.assertTrue(value >= 0 && value <= 1);
+            previous = value;
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid points")
+    public void invalidPoints() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Spline.natural(new double[]{0, 1, 1}, new double[]{0, 1, 2}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Spline.monotone(new double[]{0}, new double[]{0}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Spline.clamped(new double[]{0, 1}, new double[]{0, 1, 2}, 0, 0));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class TabulationTest {
+    Tabulation tabulation = new Tabulation();
+
+    @Test
+    @DisplayName("Tabulate x^2 from 0 to 4")
+    public void tabulateXSquaredFrom0To4() {
+        final double[] y = tabulation.tabulate(0, 4, 5, x -> Math.pow(x, 2));
+        Assertions.assertArrayEquals(new double[]{0, 1, 4, 9, 16}, y);
+        Assertions.assertArrayEquals(new double[]{0, 1, 2, 3, 4}, tabulation.grid(0, 4, 5));
+    }
+
+    @Test
+    @DisplayName("Tabulate across many parallel blocks")
+    public void tabulateAcrossManyParallelBlocks() {
+        final int points = 100001;
+        final double[] y = tabulation.tabulate(0, 1, points, x -> 2 * x);
+        for (int i = 0; i < points; i += 997) {
+            Assertions.assertEquals(2.0 * i / (points - 1), y[i], 0.000000000001);
+        }
+        Assertions.assertEquals(2, y[points - 1]);
+    }
+
+    @Test
+    @DisplayName("Write a binary table across chunks")
+    public void writeABinaryTableAcrossChunks() throws IOException {
+        final Path path = Files.createTempFile("tabulation", ".bin");
+        final int chunkSize = Tabulation.chunkSize;
+        Tabulation.chunkSize = 7;
+        try {
+            tabulation.writeBinary(path, 0, 2, 21, x -> 3 * x);
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+            Assertions.assertEquals(21 * 2 * Double.BYTES, buffer.remaining());
+            for (int i = 0; i < 21; i++) {
+                final double x = buffer.getDouble();
+                Assertions.assertEquals(i / 10.0, x, 0.000000000001);
+                Assertions.assertEquals(3 * x, buffer.getDouble());
+            }
+        } finally {
+            Tabulation.chunkSize = chunkSize;
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    @DisplayName("Write a CSV table")
+    public void writeACsvTable() throws IOException {
+        final Path path = Files.createTempFile("tabulation", ".csv");
+        try {
+            tabulation.writeCsv(path, 0, 1, 3, x -> x + 1);
+            final List<String> lines = Files.readAllLines(path);
+            Assertions.assertEquals(List.of("x,y", "0.0,1.0", "0.5,1.5", "1.0,2.0"), lines);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    @DisplayName("Downsample keeps the ends and the peak")
+    public void downsampleKeepsTheEndsAndThePeak() {
+        final double[] x = tabulation.grid(-1, 1, 1001);
+        final double[] y = tabulation.tabulate(-1, 1, 1001, t -> Math.exp(-1000 * t * t));
+        final double[][] sampled = tabulation.downsample(x, y, 20);
+
+        Assertions.assertEquals(20, sampled[0].length);
+        Assertions.assertEquals(-1, sampled[0][0]);
+        Assertions.assertEquals(1, sampled[0][19]);
+
+        double peak = 0;
+        for (double value : sampled[1]) {
+            peak = Math.max(peak, value);
+        }
+        Assertions.assertEquals(1, peak, 0.01);
+    }
+
+    @Test
+    @DisplayName("Streamed downsample matches the in-memory downsample")
+    public void streamedDownsampleMatchesInMemoryDownsample() {
+        final Function function = t -> Math.sin(7 * t) + 0.3 * Math.cos(31 * t);
+        final double[] x = tabulation.grid(0, 3, 5000);
+        final double[] y = tabulation.tabulate(0, 3, 5000, function);
+
+        final double[][] expected = tabulation.downsample(x, y, 100);
+        final double[][] actual = tabulation.downsample(0, 3, 5000, function, 100);
+        Assertions.assertArrayEquals(expected[0], actual[0]);
+        Assertions.assertArrayEquals(expected[1], actual[1]);
+    }
+
+    @Test
+    @DisplayName("Streamed downsample scans buckets larger than a chunk")
+    public void streamedDownsampleScansBucketsLargerThanAChunk() {
+        final Function function = t -> Math.sin(7 * t) + 0.3 * Math.cos(31 * t);
+        final double[] x = tabulation.grid(0, 3, 5000);
+        final double[] y = tabulation.tabulate(0, 3, 5000, function);
+        final double[][] expected = tabulation.downsample(x, y, 20);
+
+        final int chunkSize = Tabulation.chunkSize;
+        Tabulation.chunkSize = 7;
+        try {
+            final double[][] actual = tabulation.downsample(0, 3, 5000, function, 20);
+            Assertions.assertArrayEquals(expected[0], actual[0]);
+            Assertions.assertArrayEquals(expected[1], actual[1]);
+        } finally {
+            Tabulation.chunkSize = chunkSize;
+        }
+    }
+
+    @Test
+    @DisplayName("Tabulate with too few points")
+    public void tabulateWithTooFewPoints() {
+        final Exception exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> tabulation.tabulate(0, 1, 1, x -> x));
+
+        final String expectedMessage = "There must be at least two points.";
+        Assertions.assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class WynnEpsilonTest {
+    @Test
+    @DisplayName("Accelerate a geometric sequence")
+    public void accelerateAGeometricSequence() {
+        final WynnEpsilon epsilon = new WynnEpsilon();
+        double term = 1;
+        for (int i = 0; i < 6; i++) {
+            epsilon.add(2 + term);
+            term *= 0.7;
+        }
+
+        Assertions.assertEquals(2, epsilon.getValue(), 0.000000001);
+        Assertions.assertEquals(6, epsilon.getTerms());
+    }
+
+    @Test
+    @DisplayName("Accelerate the partial sums of the alternating harmonic series")
+    public void accelerateTheAlternatingHarmonicSeries() {
+        final WynnEpsilon epsilon = new WynnEpsilon();
+        double sum = 0;
+        for (int i = 1; i <= 12; i++) {
+            sum += (i % 2 == 1 ? 1.0 : -1.0) / i;
+            epsilon.add(sum);
+        }
+
+        Assertions.assertEquals(Math.log(2), epsilon.getValue(), 0.0000001);
+    }
+
+    @Test
+    @DisplayName("A constant sequence is exact")
+    public void constantSequenceIsExact() {
+        final WynnEpsilon epsilon = new WynnEpsilon();
+        epsilon.add(3);
+        epsilon.add(3);
+        epsilon.add(3);
+        Assertions.assertEquals(3, epsilon.getValue());
+        Assertions.assertEquals(0, epsilon.getError());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 Matthew Okashita, Joseph Benigno
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.github.derivasians.calculatte;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class VectorFunctionTest {
+    Calculatte c = new Calculatte();
+
+    @Test
+    @DisplayName("Vector kernel is used unless disabled")
+    public void vectorKernelIsUsedUnlessDisabled() {
+        final boolean enabled = Boolean.parseBoolean(System.getProperty("calculatte.vector", "true"));
+        Assertions.assertEquals(enabled, IntegrationKernel.INSTANCE instanceof VectorIntegrationKernel);
+    }
+
+    @Test
+    @DisplayName("Integrate vectorized 2x from 0 to 2")
+    public void integrateTwoXFrom0To2() {
+        final VectorFunction twoX = x -> x.mul(2);
+        Assertions.assertEquals(4, c.integrate(0, 2, twoX));
+    }
+
+    @Test
+    @DisplayName("Integrate vectorized x^2 + 2x matches the scalar integral")
+    public void integrateXSquaredPlusTwoXMatchesScalar() {
+        final VectorFunction vector = x -> x.mul(x).add(x.mul(2));
+        final Function scalar = x -> Math.pow(x, 2) + 2 * x;
+        Assertions.assertEquals(c.integrate(-1, 3, scalar), c.integrate(-1, 3, vector));
+    }
+
+    @Test
+    @DisplayName("Integrate vectorized x^2 from 0 to 3")
+    public void integrateXSquaredFrom0To3() {
+        final VectorFunction xSquared = x -> x.mul(x);
+        Assertions.assertEquals(9, c.integrate(0, 3, xSquared));
+    }
+
+    @Test
+    @DisplayName("Vector kernel matches the scalar kernel for any number of points")
+    public void vectorKernelMatchesScalarKernel() {
+        final VectorFunction vector = x -> x.mul(x).mul(x);
+        final BulkFunction bulk = BulkFunction.of(x -> x * x * x);
+        final IntegrationKernel scalar = new ScalarIntegrationKernel();
+        for (int n = 2; n < 40; n++) {
+            final double expected = scalar.simpson(-1, 2, n, bulk);
+            Assertions.assertEquals(expected, IntegrationKernel.INSTANCE.simpson(-1, 2, n, vector), 0.000000000001);
+            Assertions.assertEquals(expected, IntegrationKernel.INSTANCE.simpson(-1, 2, n, bulk), 0.000000000001);
+        }
+    }
+
+    @Test
+    @DisplayName("Vectorized Riemann and trapezoidal sums of x^2 from 0 to 16 with n = 4")
+    public void riemannSumsOfXSquared() {
+        final VectorFunction xSquared = x -> x.mul(x);
+        Assertions.assertEquals(896, c.leftRiemannSum(0, 16, xSquared, 4));
+        Assertions.assertEquals(1920, c.rightRiemannSum(0, 16, xSquared, 4));
+        Assertions.assertEquals(1344, c.midpointRule(0, 16, xSquared, 4));
+        Assertions.assertEquals(1408, c.trapezoidalSum(0, 16, xSquared, 4));
+    }
+
+    @Test
+    @DisplayName("Vector function evaluated in bulk with a partial vector")
+    public void vectorFunctionEvaluatedInBulk() {
+        final VectorFunction twoX = x -> x.mul(2);
+        final double[] x = {1, 2, 3};
+        final double[] y = new double[3];
+        twoX.f(x, y, 3);
+        Assertions.assertArrayEquals(new double[]{2, 4, 6}, y);
+    }
+}